@@ -1,15 +1,21 @@
 package com.example.backend.controller;
 
 import com.example.backend.controller.utilities.ResponseController;
+import com.example.backend.dto.SliceResponse;
+import com.example.backend.dto.cache.CacheRegionStatsResponse;
+import com.example.backend.dto.chat.ChatMetricsResponse;
 import com.example.backend.dto.comment.index.CommentIndexResponse;
 import com.example.backend.dto.posts.index.PostsIndexResponse;
 import com.example.backend.dto.user.UserIndexResponse;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
 import com.example.backend.service.AdminService;
+import com.example.backend.service.ChatRoomTextWriter;
 import com.example.backend.service.CommentService;
+import com.example.backend.service.EntityCache;
 import com.example.backend.service.PostsService;
 import com.example.backend.service.UserService;
+import com.example.backend.socket.ChatSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,6 +26,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -30,6 +38,9 @@ public class AdminController {
     private final PostsService postsService;
     private final CommentService commentService;
     private final UserService userService;
+    private final EntityCache entityCache;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatRoomTextWriter chatRoomTextWriter;
 
     /**
      * 신고된 게시글 반환하는 메서드
@@ -38,6 +49,7 @@ public class AdminController {
      * @param searchField 검색 필드(제목, 내용 등)
      * @param searchTerm 검색 내용
      * @param tab 현재 탭(질문, 모임, 모집 등)
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 신고된 게시글 목록
      */
     @GetMapping("/posts")
@@ -45,9 +57,14 @@ public class AdminController {
                                         @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                    @RequestParam(required = false, defaultValue = "") String searchField,
                                    @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                   @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                   @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                   @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
             User user = userDetails.getUser();
+            if (slice) {
+                SliceResponse<PostsIndexResponse> responseDto = adminService.indexPostsSlice(user, pageable, searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
             Page<PostsIndexResponse> responseDto = adminService.indexPosts(user, pageable, searchField, searchTerm, tab);
             return ResponseController.success(responseDto);
         } catch (Exception e) {
@@ -80,6 +97,7 @@ public class AdminController {
      * @param searchField 검색할 필드
      * @param searchTerm 검색할 단어
      * @param tab 현재 탭
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 신고된 댓글
      */
     @GetMapping("/comment")
@@ -87,9 +105,14 @@ public class AdminController {
                                         @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                         @RequestParam(required = false, defaultValue = "") String searchField,
                                         @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                        @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                        @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                        @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
             User user = userDetails.getUser();
+            if (slice) {
+                SliceResponse<CommentIndexResponse> responseDto = adminService.indexCommentSlice(user, pageable, searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
             Page<CommentIndexResponse> responseDto = adminService.indexComment(user, pageable, searchField, searchTerm, tab);
             return ResponseController.success(responseDto);
         } catch (Exception e) {
@@ -120,13 +143,19 @@ public class AdminController {
      * @param pageable 페이지 정보
      * @param searchField 검색 필드(회원명, 이메일)
      * @param searchTerm 검색 단어
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 사용자 정보
      */
     @GetMapping("/user")
     public ResponseEntity<?> indexUser(@PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                        @RequestParam(required = false, defaultValue = "") String searchField,
-                                       @RequestParam(required = false, defaultValue = "") String searchTerm) {
+                                       @RequestParam(required = false, defaultValue = "") String searchTerm,
+                                       @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
+            if (slice) {
+                SliceResponse<UserIndexResponse> responsesDto = adminService.indexUserSlice(pageable, searchField, searchTerm);
+                return ResponseController.success(responsesDto);
+            }
             Page<UserIndexResponse> responsesDto = adminService.indexUser(pageable, searchField, searchTerm);
             return ResponseController.success(responsesDto);
         } catch (Exception e) {
@@ -165,4 +194,34 @@ public class AdminController {
             return ResponseController.fail(e.getMessage());
         }
     }
+
+    /**
+     * 2차 캐시 영역별 적중률 조회 메서드 (영역 크기 조정용)
+     * @return 영역별 조회/적중/저장 횟수와 적중률
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<?> cacheStats() {
+        try {
+            List<CacheRegionStatsResponse> responses = entityCache.stats();
+            return ResponseController.success(responses);
+        } catch (Exception e) {
+            return ResponseController.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅 전송 버퍼 지표 조회 메서드 (느린 세션 확인용)
+     * @return 세션 수, 버퍼에 쌓인 크기, 버린 메시지 수, 끊은 세션 수, 저장 대기/버린 채팅 메시지 수
+     */
+    @GetMapping("/chat")
+    public ResponseEntity<?> chatMetrics() {
+        try {
+            ChatMetricsResponse responseDto = chatSessionRegistry.metrics();
+            responseDto.setPendingTexts(chatRoomTextWriter.pendingCount());
+            responseDto.setDroppedTexts(chatRoomTextWriter.droppedCount());
+            return ResponseController.success(responseDto);
+        } catch (Exception e) {
+            return ResponseController.fail(e.getMessage());
+        }
+    }
 }
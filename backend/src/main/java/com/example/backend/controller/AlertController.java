@@ -1,11 +1,14 @@
 package com.example.backend.controller;
 
 import com.example.backend.controller.utilities.ResponseController;
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.alert.AlertIndexResponse;
 import com.example.backend.dto.alert.CheckNewAlertResponse;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
 import com.example.backend.service.AlertService;
+import com.example.backend.service.searchSpec.CursorSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -34,18 +37,32 @@ public class AlertController {
      * @param searchField 검색 필드(제목, 내용 등)
      * @param searchTerm 검색 단어
      * @param tab 현재 탭(댓글, 신청 등)
+     * @param after 커서(이전 페이지의 마지막 알림 ID) - 있으면 커서 방식으로 조회
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 필터링된 알림 페이지
      */
     @GetMapping
     public ResponseEntity<?> index(@AuthenticationPrincipal CustomUserDetails userDetails, @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                    @RequestParam(required = false, defaultValue = "") String searchField,
                                    @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                   @RequestParam(required = false, defaultValue = "") Integer tab) {
+                                   @RequestParam(required = false, defaultValue = "") Integer tab,
+                                   @RequestParam(required = false) String after,
+                                   @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
             log.info("CustomUserDetails: {}", userDetails);
 
             User user = userDetails.getUser();
 
+            if (after != null) {
+                CursorResponse<AlertIndexResponse> responseDto = service.indexAfter(user, CursorSpec.parse(after), pageable.getPageSize(), searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
+            if (slice) {
+                SliceResponse<AlertIndexResponse> responseDto = service.indexSlice(user, pageable, searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
             Page<AlertIndexResponse> responseDto = service.index(user, pageable, searchField, searchTerm, tab);
             return ResponseController.success(responseDto);
         } catch (Exception e) {
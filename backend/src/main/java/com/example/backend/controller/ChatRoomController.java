@@ -1,11 +1,14 @@
 package com.example.backend.controller;
 
 import com.example.backend.controller.utilities.ResponseController;
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.chat.ChatRoomIndexResponse;
 import com.example.backend.dto.chat.ChatRoomShowResponse;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
 import com.example.backend.service.ChatRoomService;
+import com.example.backend.service.searchSpec.CursorSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +34,8 @@ public class ChatRoomController {
      * @param searchField 검색 필드
      * @param searchTerm 검색 단어
      * @param tab 현재 탭(관리자, 참가자)
+     * @param after 커서(이전 페이지의 마지막 채팅방 ID) - 있으면 커서 방식으로 조회
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 필터링된 채팅방 페이지
      */
     @GetMapping
@@ -38,10 +43,22 @@ public class ChatRoomController {
                                     @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                     @RequestParam(required = false, defaultValue = "") String searchField,
                                     @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                    @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                    @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
             User user = userDetails.getUser();
 
+            if (after != null) {
+                CursorResponse<ChatRoomIndexResponse> responseDto = chatRoomService.indexAfter(user, CursorSpec.parse(after), pageable.getPageSize(), searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
+            if (slice) {
+                SliceResponse<ChatRoomIndexResponse> responseDto = chatRoomService.indexSlice(user, pageable, searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
             Page<ChatRoomIndexResponse> responseDto = chatRoomService.index(user, pageable, searchField, searchTerm, tab);
             return ResponseController.success(responseDto);
         } catch (Exception e) {
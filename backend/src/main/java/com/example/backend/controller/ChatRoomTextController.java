@@ -19,14 +19,15 @@ public class ChatRoomTextController {
     private final ChatRoomTextService chatRoomTextService;
 
     /**
-     * 채팅방 최근 25개의 메시지를 반환하는 메서드
+     * 채팅방 메시지 25개를 오래된 순으로 반환하는 메서드
      * @param roomId 반환받을 채팅방 ID
-     * @return 최근 25개의 메시지
+     * @param before 이전 메시지 커서 (받은 메시지 중 가장 오래된 ID, 없으면 최근 메시지)
+     * @return 메시지 25개 (비어 있으면 더 이전 메시지 없음)
      */
     @GetMapping("/{roomId}")
-    public ResponseEntity<?> getTextTop25(@PathVariable Long roomId) {
+    public ResponseEntity<?> getTextTop25(@PathVariable Long roomId, @RequestParam(required = false) Long before) {
         try {
-            List<ChatRoomTextResponse> responseDtos = chatRoomTextService.getMessage(roomId);
+            List<ChatRoomTextResponse> responseDtos = chatRoomTextService.getMessage(roomId, before);
             return ResponseController.success(responseDtos);
         } catch (Exception e) {
             return ResponseController.fail(e.getMessage());
@@ -1,6 +1,8 @@
 package com.example.backend.controller;
 
 import com.example.backend.controller.utilities.ResponseController;
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.comment.create.CommentCreateRequest;
 import com.example.backend.dto.comment.create.CommentCreateResponse;
 import com.example.backend.dto.comment.delete.CommentDeleteResponse;
@@ -11,6 +13,7 @@ import com.example.backend.dto.likes.LikesResponse;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
 import com.example.backend.service.CommentService;
+import com.example.backend.service.searchSpec.CursorSpec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -96,6 +99,8 @@ public class CommentController {
      * @param searchField 검색 필드
      * @param searchTerm 검색 단어
      * @param tab 현재 탭
+     * @param after 커서(이전 페이지의 마지막 댓글 ID) - 있으면 커서 방식으로 조회
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return user가 현재 user인 댓글 페이지
      */
     @GetMapping("/my")
@@ -103,12 +108,24 @@ public class CommentController {
                                          @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                          @RequestParam(required = false, defaultValue = "") String searchField,
                                          @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                         @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                         @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                         @RequestParam(required = false) String after,
+                                         @RequestParam(required = false, defaultValue = "false") boolean slice) {
         try {
             log.info("Pageable: {}", pageable);
             log.info("searchField: {}", searchField);
             log.info("searchTerm: {}", searchTerm);
 
+            if (after != null) {
+                CursorResponse<CommentIndexResponse> responseDto = service.indexByUserAfter(userDetails.getUser(), CursorSpec.parse(after), pageable.getPageSize(), searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
+            if (slice) {
+                SliceResponse<CommentIndexResponse> responseDto = service.indexByUserSlice(userDetails.getUser(), pageable, searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            }
+
             Page<CommentIndexResponse> responseDto = service.indexByUser(userDetails.getUser(), pageable, searchField, searchTerm, tab);
             return ResponseController.success(responseDto);
         } catch (Exception e) {
@@ -1,6 +1,9 @@
 package com.example.backend.controller;
 
 import com.example.backend.controller.utilities.ResponseController;
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
+import com.example.backend.dto.comment.CommentResponse;
 import com.example.backend.dto.likes.LikesResponse;
 import com.example.backend.dto.posts.create.PostsCreateRequest;
 import com.example.backend.dto.posts.delete.PostsDeleteResponse;
@@ -10,6 +13,8 @@ import com.example.backend.dto.posts.update.PostsUpdateRequest;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
 import com.example.backend.service.PostsService;
+import com.example.backend.service.searchSpec.CursorSpec;
+import com.example.backend.service.searchSpec.PostsSortSpec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +27,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @Slf4j
 @RequiredArgsConstructor
@@ -38,6 +45,9 @@ public class PostsController {
      * @param searchField 검색 필드
      * @param searchTerm 검색 단어
      * @param tab 현재 필드
+     * @param sortBy 정렬 기준(좋아요, 댓글, 조회 | 기본값 최신순)
+     * @param after 커서(이전 페이지의 마지막 게시글 ID) - 있으면 최신순 커서 방식으로 조회
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회 (전체 개수는 캐시된 값, 정확 여부 함께 반환)
      * @return 필터링된 게시글 페이지
      */
     @GetMapping
@@ -45,7 +55,10 @@ public class PostsController {
                                    @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                    @RequestParam(required = false, defaultValue = "") String searchField,
                                    @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                   @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                   @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                   @RequestParam(required = false, defaultValue = "") String sortBy,
+                                   @RequestParam(required = false) String after,
+                                   @RequestParam(required = false, defaultValue = "false") boolean slice) {
         log.info("CustomUserDetails: {}", userDetails);
         log.info("Pageable: {}", pageable);
         log.info("searchField: {}", searchField);
@@ -53,8 +66,26 @@ public class PostsController {
 
         User user = userDetails != null ? userDetails.getUser() : null;
 
+        // 커서가 있으면 OFFSET 없이 id 기준으로 다음 페이지 조회 (정렬 기준은 최신순 고정)
+        if (after != null) {
+            try {
+                CursorResponse<PostsIndexResponse> responseDto = service.indexAfter(user, CursorSpec.parse(after), pageable.getPageSize(), searchField, searchTerm, tab);
+                return ResponseController.success(responseDto);
+            } catch (Exception e) {
+                return ResponseController.fail(e.getMessage());
+            }
+        }
+
+        // 정렬 기준(좋아요순, 댓글순, 조회순) 적용
+        Pageable sortedPageable = PostsSortSpec.apply(pageable, sortBy);
+
+        if (slice) {
+            SliceResponse<PostsIndexResponse> responseDto = service.indexSlice(user, sortedPageable, searchField, searchTerm, tab);
+            return ResponseController.success(responseDto);
+        }
+
         // Service에서 Page 객체를 받아 ResponseController로 감싸서 반환
-        Page<PostsIndexResponse> responsePage = service.index(user, pageable, searchField, searchTerm, tab);
+        Page<PostsIndexResponse> responsePage = service.index(user, sortedPageable, searchField, searchTerm, tab);
         return ResponseController.success(responsePage);
     }
 
@@ -65,6 +96,7 @@ public class PostsController {
      * @param searchField 검색 필드
      * @param searchTerm 검색 단어
      * @param tab 현재 탭
+     * @param slice true면 COUNT 쿼리 없이 Slice로 조회
      * @return 필터링된 내 게시글 페이지 리스트
      */
     @GetMapping("/my")
@@ -72,12 +104,18 @@ public class PostsController {
                                    @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
                                    @RequestParam(required = false, defaultValue = "") String searchField,
                                    @RequestParam(required = false, defaultValue = "") String searchTerm,
-                                   @RequestParam(required = false, defaultValue = "0") Integer tab) {
+                                   @RequestParam(required = false, defaultValue = "0") Integer tab,
+                                   @RequestParam(required = false, defaultValue = "false") boolean slice) {
         log.info("CustomUserDetails: {}", userDetails);
         log.info("Pageable: {}", pageable);
         log.info("searchField: {}", searchField);
         log.info("searchTerm: {}", searchTerm);
 
+        if (slice) {
+            SliceResponse<PostsIndexResponse> responseDto = service.indexByUserSlice(userDetails.getUser(), pageable, searchField, searchTerm, tab);
+            return ResponseController.success(responseDto);
+        }
+
         // Service에서 Page 객체를 받아 ResponseController로 감싸서 반환
         Page<PostsIndexResponse> responsePage = service.indexByUser(userDetails.getUser(), pageable, searchField, searchTerm, tab);
         return ResponseController.success(responsePage);
@@ -107,6 +145,25 @@ public class PostsController {
         return ResponseController.success(responsePage);
     }
 
+    /**
+     * 인기 게시글 조회 메서드 (좋아요, 댓글, 조회에 시간 감쇠를 적용한 점수 순)
+     * @param userDetails 회원 정보 - 좋아요 여부, 조회 여부 확인용 (비회원이면 null)
+     * @param size 조회할 개수 (최대 50)
+     * @return 인기 게시글 리스트
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> trending(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                      @RequestParam(required = false, defaultValue = "10") int size) {
+        try {
+            User user = userDetails != null ? userDetails.getUser() : null;
+
+            List<PostsIndexResponse> responseDto = service.trending(user, Math.min(Math.max(size, 1), 50));
+            return ResponseController.success(responseDto);
+        } catch (Exception e) {
+            return ResponseController.fail(e.getMessage());
+        }
+    }
+
     /**
      * 게시글 상세 보기 + 조회수 증가 + 현재 회원이 해당 게시글을 보았음을 저장
      * @param userDetails 회원 정보 - 즐겨찾기 여부, 게시글 보았음 저장용
@@ -127,6 +184,29 @@ public class PostsController {
         }
     }
 
+    /**
+     * 게시글 댓글을 커서 방식으로 이어서 조회하는 메서드 (오래된 순)
+     * @param userDetails 회원 정보 - 댓글 좋아요 여부 확인용
+     * @param postsId 게시글 ID
+     * @param after 커서(이전 페이지의 마지막 댓글 ID) - 없으면 첫 페이지
+     * @param size 페이지 크기
+     * @return 커서 기반 댓글 리스트
+     */
+    @GetMapping("/{postsId}/comments")
+    public ResponseEntity<?> indexComments(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                           @PathVariable Long postsId,
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(required = false, defaultValue = "" + PostsService.COMMENT_PAGE_SIZE) int size) {
+        try {
+            User user = userDetails.getUser();
+
+            CursorResponse<CommentResponse> responseDto = service.indexComments(user, postsId, CursorSpec.parse(after), Math.min(Math.max(size, 1), 100));
+            return ResponseController.success(responseDto);
+        } catch (Exception e) {
+            return ResponseController.fail(e.getMessage());
+        }
+    }
+
     /**
      * 게시글 즐겨찾기 수 증감 메서드
      * @param userDetails 회원 정보 - 즐겨찾기 여부 확인용
@@ -5,8 +5,11 @@ import com.example.backend.dto.user.ChangeUserInfoRequest;
 import com.example.backend.dto.user.MyPageResponse;
 import com.example.backend.entity.User;
 import com.example.backend.security.CustomUserDetails;
+import com.example.backend.security.TokenProvider;
 import com.example.backend.service.AlertService;
 import com.example.backend.service.UserService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +25,7 @@ public class UserController {
 
     private final UserService service;
     private final AlertService alertService;
+    private final TokenProvider tokenProvider;
 
     /**
      * 내 정보(마이 페이지)를 반환하는 메서드
@@ -43,19 +47,33 @@ public class UserController {
 
     /**
      * 회원 정보 수정 메서드
+     * @param response 새 토큰 Cookie 반환용 response
      * @param userDetails 회원 정보 - 회원 조회용
      * @param dto 수정된 회원 정보를 담은 DTO
      * @return null
      */
     @PatchMapping("/my/change-userInfo")
-    public ResponseEntity<?> changeUserInfo(@AuthenticationPrincipal CustomUserDetails userDetails, @Valid @RequestBody ChangeUserInfoRequest dto) {
+    public ResponseEntity<?> changeUserInfo(HttpServletResponse response, @AuthenticationPrincipal CustomUserDetails userDetails, @Valid @RequestBody ChangeUserInfoRequest dto) {
         try {
             log.info("CustomUserDetails: {}", userDetails);
             log.info("ChangeUserInfoRequest: {}", dto);
 
             User user = userDetails.getUser();
 
-            service.changeUserInfo(user, dto);
+            User changed = service.changeUserInfo(user, dto);
+
+            // 기존 토큰은 무효화되었으므로 변경된 회원 정보로 새 토큰 발급
+            String token = tokenProvider.tokenProvide(new CustomUserDetails(changed));
+
+            long maxAgeSeconds = tokenProvider.getExpiration() / 1000;
+
+            Cookie cookie = new Cookie("ACCESS_TOKEN", token);
+            cookie.setHttpOnly(true);
+            // cookie.setSecure(true); // https에서만 사용
+            cookie.setPath("/");
+            cookie.setMaxAge((int) maxAgeSeconds);
+
+            response.addCookie(cookie);
 
             return ResponseEntity.ok().build();
         } catch (Exception e) {
@@ -0,0 +1,55 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CursorResponse<T> {
+    private List<T> content; // 현재 페이지 데이터
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 요청 시 after 파라미터로 전달할 값 (없으면 null)
+
+    /**
+     * size + 1개를 조회한 결과로 커서 응답 생성
+     * 마지막 한 개는 다음 페이지 존재 여부 확인용으로만 사용하고 응답에서 제외한다
+     * @param rows size + 1개까지 조회된 데이터
+     * @param size 요청한 페이지 크기
+     * @param idOf 커서로 사용할 ID 추출 함수
+     * @return 커서 응답
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? String.valueOf(idOf.apply(content.get(content.size() - 1))) : null;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 데이터만 변환하고 커서 정보는 유지
+     * @param converter 변환 함수
+     * @return 변환된 커서 응답
+     */
+    public <R> CursorResponse<R> map(Function<T, R> converter) {
+        return CursorResponse.<R>builder()
+                .content(content.stream().map(converter).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
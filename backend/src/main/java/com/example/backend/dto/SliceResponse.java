@@ -0,0 +1,61 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class SliceResponse<T> {
+    private List<T> content; // 현재 페이지 데이터
+    private int page; // 현재 페이지 번호 (0부터 시작)
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부 (항상 정확함)
+    private long totalElements; // 전체 개수 (totalExact가 false면 캐시된 추정값)
+    private int totalPages; // 전체 페이지 수 (totalElements 기준)
+    private boolean totalExact; // 전체 개수가 이번 요청 기준으로 정확한 값인지 여부
+
+    /**
+     * Slice와 전체 개수로 응답 생성
+     * @param slice 조회된 Slice
+     * @param total 전체 개수
+     * @param exact 전체 개수가 정확한 값인지 여부
+     * @return Slice 응답
+     */
+    public static <T> SliceResponse<T> of(Slice<T> slice, long total, boolean exact) {
+        int size = slice.getSize();
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(size)
+                .hasNext(slice.hasNext())
+                .totalElements(total)
+                .totalPages(size > 0 ? (int) Math.ceil((double) total / size) : 1)
+                .totalExact(exact)
+                .build();
+    }
+
+    /**
+     * 데이터만 변환하고 페이지/개수 정보는 유지
+     * @param converter 변환 함수
+     * @return 변환된 Slice 응답
+     */
+    public <R> SliceResponse<R> map(Function<T, R> converter) {
+        return SliceResponse.<R>builder()
+                .content(content.stream().map(converter).toList())
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .totalExact(totalExact)
+                .build();
+    }
+}
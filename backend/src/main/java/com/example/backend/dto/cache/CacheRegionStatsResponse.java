@@ -0,0 +1,21 @@
+package com.example.backend.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CacheRegionStatsResponse {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    // 적중률 (hit / (hit + miss), 조회가 없으면 0)
+    private double hitRatio;
+    // 메모리에 있는 항목 수 (캐시 구현이 지원하지 않으면 null)
+    private Long elementCount;
+}
@@ -0,0 +1,27 @@
+package com.example.backend.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ChatMetricsResponse {
+    // 접속중인 세션 수 / 세션이 있는 채팅방 수
+    private int sessions;
+    private int rooms;
+    // 전송 버퍼에 쌓인 전체 크기 / 세션 중 가장 큰 버퍼 크기 (바이트)
+    private long bufferedBytes;
+    private int maxBufferedBytes;
+    // 버퍼 초과로 버린 메시지 수 (DROP 정책)
+    private long droppedFrames;
+    // 버퍼 초과 또는 전송 시간 초과로 끊은 세션 수
+    private long closedSlowSessions;
+    private String overflowPolicy;
+    // 저장 대기 중인 메시지 수 / 쓰기 지연 큐가 가득 차 저장하지 않고 버린 메시지 수
+    private int pendingTexts;
+    private long droppedTexts;
+}
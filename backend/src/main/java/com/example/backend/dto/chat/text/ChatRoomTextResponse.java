@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Data
 public class ChatRoomTextResponse {
+    // 이전 메시지 조회 커서 (저장 전인 최근 메시지는 null)
+    private Long id;
     private String username;
     private String text;
     private LocalDateTime createdDate;
@@ -24,7 +24,10 @@ public class PostsShowResponse {
     private Long viewCount;
     private Integer likes;
     private boolean savedInLikes;
-    private List<CommentResponse> comments;
+    private List<CommentResponse> comments; // 댓글 첫 페이지 (채택된 댓글 항상 포함)
+    private boolean commentsHasNext; // 댓글 다음 페이지 존재 여부
+    private String commentsNextCursor; // 다음 댓글 페이지 요청 시 after 파라미터로 전달할 값 (없으면 null)
+    private Integer commentNumber; // 전체 댓글 수
     private String region;
     private String meetingInfo;
     private Integer maxUserNumber;
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -15,7 +16,20 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 
+// 알림 목록 - 보낸 회원과 게시글을 함께 조회
+@NamedEntityGraph(name = "Alert.list", attributeNodes = {
+        @NamedAttributeNode("sender"),
+        @NamedAttributeNode("posts")
+})
 @Entity
+@Table(indexes = {
+        // 게시글 상세의 모집 신청 상태 조회 (게시글 + 받는 사람 + 알림 종류)
+        @Index(name = "idx_alert_posts_receiver_subject", columnList = "posts_id, receiver_id, subject"),
+        // 알림 목록 탭 조회 (받는 사람 + 알림 종류, 최신순)
+        @Index(name = "idx_alert_receiver_subject", columnList = "receiver_id, subject, id"),
+        // 중복 신청 확인 (게시글 + 보낸 사람 + 알림 종류)
+        @Index(name = "idx_alert_posts_sender_subject", columnList = "posts_id, sender_id, subject")
+})
 public class Alert extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,17 +45,17 @@ public class Alert extends BaseEntity {
     private AlertSubject subject;
 
     // 게시글 작성자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "receiver_id")
     private User user;
 
     // 답변 작성자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id")
     private User sender;
 
     // 게시글 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Posts posts;
 
     // 알림 내용
@@ -49,11 +63,12 @@ public class Alert extends BaseEntity {
     private String content;
 
     // 댓글 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
     // 알림 조회 리스트
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "alert", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AlertViewed> alertViewedList;
 }
@@ -11,16 +11,18 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 
+// 알림별 조회 여부 확인 / 삭제
 @Entity
+@Table(indexes = @Index(name = "idx_alert_viewed_alert_user", columnList = "alert_id, user_id"))
 public class AlertViewed {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 누가 보았나?
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 어떤 알림을 보았나?
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Alert alert;
 }
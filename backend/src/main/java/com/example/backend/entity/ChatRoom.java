@@ -1,10 +1,15 @@
 package com.example.backend.entity;
 
+import com.example.backend.entity.utilities.SearchNormalizeListener;
+import com.example.backend.entity.utilities.SearchNormalized;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,8 +19,19 @@ import java.util.List;
 @AllArgsConstructor
 @Data
 
+// 지연 로딩된 프록시는 IN 쿼리 한 번으로 최대 100개씩 함께 초기화
+@BatchSize(size = 100)
+// 채팅방 접속 확인 - 관리자와 초대된 회원을 함께 조회
+@NamedEntityGraph(name = "ChatRoom.members", attributeNodes = {
+        @NamedAttributeNode("creator"),
+        @NamedAttributeNode("invitedUsers")
+})
+// 2차 캐시 - 채팅방 접속/메시지 작성마다 DB를 읽지 않음 (영역 설정은 application.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "chatRoom")
 @Entity
-public class ChatRoom {
+@EntityListeners(SearchNormalizeListener.class)
+public class ChatRoom implements SearchNormalized {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,25 +39,35 @@ public class ChatRoom {
     @Column
     private String roomName;
 
+    // 검색용 채팅방 이름 (공백 제거 + 소문자, 리스너가 관리)
+    // 부분 일치 검색(LIKE '%검색어%')이라 인덱스를 두지 않음 - 행마다 REPLACE/LOWER 계산만 생략
+    @Column(name = "room_name_norm")
+    private String roomNameNorm;
+
     // 관리자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User creator;
 
-    // 초대된 사용자
+    // 초대된 사용자 (2차 캐시에는 회원 ID 목록만 저장)
     @Builder.Default
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "chatRoom.invitedUsers")
     @ManyToMany
     @JoinTable(
             name = "chat_room_invited_users",
             joinColumns = @JoinColumn(name = "chat_room_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            // 회원이 초대된 채팅방 조회
+            indexes = @Index(name = "idx_chat_room_invited_users_user", columnList = "user_id, chat_room_id")
     )
     private List<User> invitedUsers = new ArrayList<>();
 
     // [모집] 게시글 정보
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     private Posts posts;
 
     // 채팅방 내부 댓글
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatRoomText> chatRoomTexts;
 
@@ -54,4 +80,9 @@ public class ChatRoom {
     @Builder.Default
     @Column
     private Integer currentUserNumber = 0;
+
+    @Override
+    public void normalizeSearchColumns() {
+        this.roomNameNorm = SearchNormalizeListener.normalize(roomName);
+    }
 }
@@ -9,18 +9,22 @@ import lombok.*;
 @AllArgsConstructor
 @Getter
 
+// 채팅 기록 - 작성자를 함께 조회
+@NamedEntityGraph(name = "ChatRoomText.history", attributeNodes = @NamedAttributeNode("writer"))
 @Entity
+// 채팅방 메시지 조회 (채팅방 + ID 순)
+@Table(indexes = @Index(name = "idx_chat_room_text_room_id", columnList = "room_id, id"))
 public class ChatRoomText extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 채팅방 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private ChatRoom room;
 
     // 글쓴이 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User writer;
 
     // 글 내용
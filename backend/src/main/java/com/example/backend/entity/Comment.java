@@ -3,6 +3,9 @@ package com.example.backend.entity;
 import com.example.backend.entity.utilities.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,7 +16,16 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 
+// 카운터 컬럼은 원자적 UPDATE 문으로만 갱신되므로, 변경된 컬럼만 UPDATE 하도록 설정
+@DynamicUpdate
+// 지연 로딩된 프록시는 IN 쿼리 한 번으로 최대 100개씩 함께 초기화
+@BatchSize(size = 100)
 @Entity
+// 게시글 상세 댓글 커서 조회 / 회원이 작성한 댓글 목록
+@Table(indexes = {
+        @Index(name = "idx_comment_posts_id", columnList = "posts_id, id"),
+        @Index(name = "idx_comment_user_id", columnList = "user_id, id")
+})
 public class Comment extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,18 +36,25 @@ public class Comment extends BaseEntity {
     private String content;
 
     // 작성자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 게시글 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Posts posts;
 
     // 댓글 즐겨찾기 수 조회용
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CommentLikes> likes = new ArrayList<>();
 
+    // 댓글 좋아요 수 (likes 컬렉션을 로딩하지 않기 위한 카운터)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer likeCount = 0;
+
     // 수정된 날짜
     @Setter
     @Column
@@ -44,11 +63,13 @@ public class Comment extends BaseEntity {
     // 알림 정보
     // 댓글 삭제 -> 알림 삭제(cascade.ALL)
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Alert> alertList = new ArrayList<>();
 
     // 신고 정보
     // 댓글 삭제 -> 신고 삭제(cascade.ALL)
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Report> report;
 }
@@ -11,20 +11,28 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 
+// 좋아요한 댓글 목록 - 게시글/댓글/회원을 함께 조회
+@NamedEntityGraph(name = "CommentLikes.favorite", attributeNodes = {
+        @NamedAttributeNode("posts"),
+        @NamedAttributeNode("comment"),
+        @NamedAttributeNode("user")
+})
+// 회원당 댓글 좋아요는 한 건 (동시에 들어온 중복 요청은 유니크 제약으로 막음)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_comment_likes_user_comment", columnNames = {"user_id", "comment_id"}))
 public class CommentLikes {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 댓글 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Comment comment;
 
     // 즐겨찾기한 회원 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 게시글 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Posts posts;
 }
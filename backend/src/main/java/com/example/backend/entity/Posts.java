@@ -2,8 +2,13 @@ package com.example.backend.entity;
 
 import com.example.backend.entity.utilities.BaseEntity;
 import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
+import com.example.backend.entity.utilities.SearchNormalized;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,8 +20,26 @@ import java.util.List;
 @Getter
 @Setter
 
+// 카운터 컬럼은 원자적 UPDATE 문으로만 갱신되므로, 변경된 컬럼만 UPDATE 하도록 설정
+@DynamicUpdate
+// 지연 로딩된 프록시는 IN 쿼리 한 번으로 최대 100개씩 함께 초기화
+@BatchSize(size = 100)
+// 게시글 상세 - 작성자와 채택 댓글을 함께 조회
+@NamedEntityGraph(name = "Posts.detail", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("adoptedComment")
+})
 @Entity
-public class Posts extends BaseEntity {
+@EntityListeners(SearchNormalizeListener.class)
+@Table(indexes = {
+        @Index(name = "idx_posts_like_count", columnList = "like_count, id"),
+        @Index(name = "idx_posts_comment_count", columnList = "comment_count, id"),
+        @Index(name = "idx_posts_view_count", columnList = "view_count, id"),
+        // 회원이 작성한 게시글 목록 / 주제 탭 목록 (최신순)
+        @Index(name = "idx_posts_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_posts_subject_id", columnList = "subject, id")
+})
+public class Posts extends BaseEntity implements SearchNormalized {
     
     // 공통
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,27 +58,49 @@ public class Posts extends BaseEntity {
     @Column
     private String title;
 
+    // 검색용 제목 (공백 제거 + 소문자, 리스너가 관리)
+    // 부분 일치 검색(LIKE '%검색어%')이라 인덱스를 두지 않음 - 행마다 REPLACE/LOWER 계산만 생략
+    @Setter(AccessLevel.NONE)
+    @Column(name = "title_norm")
+    private String titleNorm;
+
     // 게시글 내용
+    // 목록 조회 시 본문(CLOB)을 읽지 않도록 지연 로딩 (바이트코드 향상 필요)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String content;
 
     // 게시글 작성자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 게시글 좋아요
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostsLikes> likes = new ArrayList<>();
 
+    // 게시글 좋아요 수 (likes 컬렉션을 로딩하지 않기 위한 카운터)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer likeCount = 0;
+
     // 게시글 조회수
     @Builder.Default
     @Column
     private Long viewCount = 0L;
 
+    // 댓글 수 (commentList 컬렉션을 로딩하지 않기 위한 카운터)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer commentCount = 0;
+
     // 댓글 목록
     // 게시글 삭제 -> 댓글 삭제
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> commentList = new ArrayList<>();
 
@@ -94,29 +139,36 @@ public class Posts extends BaseEntity {
     // 한 게시글에 하나의 채택 댓글, 채택 댓글당 하나의 게시글
     // 외래키를 직접 관리함으로써 comment_list와 분리
     @Setter
-    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "adopted_comment_id")
     private Comment adoptedComment;
 
     // 신고 정보
     // 게시글 삭제 -> 신고 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Report> report;
 
     // 알림 정보
     // 게시글 삭제 -> 알림 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Alert> alertList;
 
     // 모집 글의 경우
     // 채팅방 정보
     // 게시글 삭제 -> 채팅방 삭제
-    @OneToOne(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private ChatRoom chatRoom;
 
     // 게시글 조회한 사용자 정보
     // 게시글 삭제 -> 조회한 사용자 정보 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posts", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostsViewed> postsViewedList;
 
+    @Override
+    public void normalizeSearchColumns() {
+        this.titleNorm = SearchNormalizeListener.normalize(title);
+    }
 }
@@ -11,18 +11,20 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 
+// 회원당 게시글 좋아요는 한 건 (동시에 들어온 중복 요청은 유니크 제약으로 막음)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_posts_likes_user_post", columnNames = {"user_id", "post_id"}))
 public class PostsLikes {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 좋아요한 사용자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 좋아요한 게시글
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Posts posts;
 }
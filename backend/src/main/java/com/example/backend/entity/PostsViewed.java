@@ -6,22 +6,27 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 이전 방식의 게시글 조회 정보 ((회원, 게시글)마다 한 행)
+ * 조회 여부는 PostsViewedBitmap으로 옮겨졌으며, 남은 행은 시작 시 비트맵으로 옮긴 뒤 삭제한다
+ */
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 
 @Entity
+@Table(indexes = @Index(name = "idx_posts_viewed_user_posts", columnList = "user_id, posts_id"))
 public class PostsViewed {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 조회한 사용자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // 조회한 게시글
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Posts posts;
 }
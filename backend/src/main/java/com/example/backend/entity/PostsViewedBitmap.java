@@ -0,0 +1,34 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 조회한 게시글 ID 비트맵 (Roaring 비트맵을 압축 직렬화한 값)
+ * (회원, 게시글)마다 행을 저장하던 PostsViewed를 대신해 회원당 한 행만 저장한다
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+public class PostsViewedBitmap {
+
+    // 회원 ID
+    @Id
+    private Long userId;
+
+    // 직렬화된 비트맵
+    @Lob
+    @Column(nullable = false)
+    private byte[] bitmap;
+
+    // 마지막 저장 시각
+    private LocalDateTime modifiedDate;
+}
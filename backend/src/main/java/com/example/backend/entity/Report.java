@@ -11,24 +11,29 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 
+// 중복 신고 확인 / 게시글·댓글별 신고 조회
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_report_posts_user", columnList = "posts_id, user_id"),
+        @Index(name = "idx_report_comment_user", columnList = "comment_id, user_id")
+})
 public class Report {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // 신고한 게시글
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "posts_id")
     private Posts posts;
 
     // 신고한 댓글
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
     // 신고한 사용자
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
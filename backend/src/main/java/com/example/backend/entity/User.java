@@ -2,8 +2,13 @@ package com.example.backend.entity;
 
 import com.example.backend.entity.utilities.BaseEntity;
 import com.example.backend.entity.utilities.Role;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
+import com.example.backend.entity.utilities.SearchNormalized;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,8 +19,19 @@ import java.util.List;
 @Getter
 @Setter
 
+// 지연 로딩된 프록시는 IN 쿼리 한 번으로 최대 100개씩 함께 초기화
+@BatchSize(size = 100)
+// 2차 캐시 - 회원/작성자 조회마다 DB를 읽지 않음 (영역 설정은 application.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Entity(name = "USERS")
-public class User extends BaseEntity {
+@EntityListeners(SearchNormalizeListener.class)
+@Table(indexes = {
+        @Index(name = "idx_users_username_norm", columnList = "username_norm"),
+        // 회원명 중복 확인 / 회원명으로 조회
+        @Index(name = "idx_users_username", columnList = "username")
+})
+public class User extends BaseEntity implements SearchNormalized {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,6 +44,11 @@ public class User extends BaseEntity {
     @Column
     private String username;
 
+    // 검색용 회원명 (공백 제거 + 소문자, 리스너가 관리)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "username_norm")
+    private String usernameNorm;
+
     // 비밀번호
     @Column
     private String password;
@@ -38,62 +59,79 @@ public class User extends BaseEntity {
 
     // 알림 정보 (받은이)
     // 회원 삭제 -> 알림 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Alert> userAlertList;
     // 알림 정보 (보낸이)
     // 회원 삭제 -> 알림 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "sender", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Alert> senderAlertList;
     // 알림 정보(조회 여부)
     // 회원 삭제 -> 알림 조회 여부 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<AlertViewed> alertViewedList;
 
 
     // 채팅방 정보(관리자)
     // 회원 삭제 -> 채팅방 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "creator", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ChatRoom> chatRoomList;
 
     // 채팅방 정보(초대된 사용자)
     @Builder.Default
+    @BatchSize(size = 100)
     @ManyToMany(mappedBy = "invitedUsers")
     private List<ChatRoom> invitedUsersInChatRooms = new ArrayList<>();
 
     // 채팅방 메시지 정보
     // 회원 삭제 -> 메시지 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "writer", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ChatRoomText> chatRoomTextList;
 
 
     // 댓글 정보
     // 회원 삭제 -> 댓글 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Comment> commentList;
 
     // 댓글 좋아요 정보
     // 회원 삭제 -> 댓글 좋아요 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<CommentLikes> commentLikesList;
 
 
     // 게시글 정보
     // 회원 삭제 -> 게시글 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Posts> postsList;
 
     // 게시글 좋아요 정보
     // 회원 삭제 -> 게시글 좋아요 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PostsLikes> postsLikesList;
 
     // 게시글 조회 정보
     // 회원 삭제 -> 게시글 조회 정보 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PostsViewed> postsViewedList;
 
     // 신고 정보
     // 회원 삭제 -> 신고 삭제
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Report> reportList;
+
+    @Override
+    public void normalizeSearchColumns() {
+        this.usernameNorm = SearchNormalizeListener.normalize(username);
+    }
 }
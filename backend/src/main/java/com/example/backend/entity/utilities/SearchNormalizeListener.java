@@ -0,0 +1,32 @@
+package com.example.backend.entity.utilities;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+import java.util.Locale;
+
+/**
+ * 검색용 정규화 컬럼을 원본 컬럼과 같이 유지하는 엔티티 리스너
+ * 검색 조건이 행마다 REPLACE(LOWER(col), ' ', '')를 계산하지 않고 정규화 컬럼과 바로 비교하도록 한다
+ * (회원명 접두사 검색만 인덱스 범위 스캔, 제목/채팅방 이름은 부분 일치라 인덱스 없음)
+ */
+public class SearchNormalizeListener {
+
+    @PrePersist
+    @PreUpdate
+    public void normalize(Object entity) {
+        if (entity instanceof SearchNormalized normalized) {
+            normalized.normalizeSearchColumns();
+        }
+    }
+
+    /**
+     * 검색 단어와 같은 방식으로 정규화 (공백 제거 + 소문자)
+     * 서버 기본 로케일과 관계없이 같은 값이 되도록 Locale.ROOT로 소문자 변환 (예: 터키어 로케일의 I -> ı)
+     * @param value 원본 값
+     * @return 정규화된 값
+     */
+    public static String normalize(String value) {
+        return value == null ? null : value.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.entity.utilities;
+
+/**
+ * 검색용 정규화 컬럼(공백 제거 + 소문자)을 가진 엔티티
+ * SearchNormalizeListener가 저장/수정 직전에 normalizeSearchColumns()를 호출한다
+ */
+public interface SearchNormalized {
+
+    void normalizeSearchColumns();
+}
@@ -4,19 +4,45 @@ import com.example.backend.entity.Alert;
 import com.example.backend.entity.Posts;
 import com.example.backend.entity.User;
 import com.example.backend.entity.utilities.AlertSubject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface AlertRepository extends JpaRepository<Alert, Long>, JpaSpecificationExecutor<Alert> {
+public interface AlertRepository extends JpaRepository<Alert, Long>, JpaSpecificationExecutor<Alert>, AlertRepositoryCustom {
+
+    // 알림 목록 - 보낸 회원과 게시글을 함께 조회
+    @Override
+    @EntityGraph("Alert.list")
+    Page<Alert> findAll(Specification<Alert> spec, Pageable pageable);
+
     boolean existsByPostsAndSenderAndSubject(Posts posts, User sender, AlertSubject subject);
-    Optional<Alert> findByPostsAndUserAndSubject(Posts posts, User user, AlertSubject subject);
-    Optional<Alert> findByPostsAndUserAndSenderAndSubject(Posts posts, User user, User sender, AlertSubject subject);
     boolean existsByUser(User user);
 
     Collection<Alert> findAllByUser(User user);
+
+    // 읽지 않은 알림 존재 여부 (알림마다 읽음 여부를 조회하지 않고 한 번의 쿼리)
+    @Query("select count(a) > 0 from Alert a where a.user = :user " +
+            "and not exists (select av.id from AlertViewed av where av.alert = a)")
+    boolean existsUnviewedByUser(@Param("user") User user);
+
+    // 게시글 모집 신청 상태 - 회원이 보낸 [신청] 또는 회원이 받은 [승인]/[거절] 중 가장 최근 알림 종류 (한 번의 쿼리)
+    @Query("select a.subject from Alert a " +
+            "where a.posts.id = :postsId and (" +
+            "(a.subject = com.example.backend.entity.utilities.AlertSubject.APPLICATION and a.user.id = :authorId and a.sender.id = :userId) " +
+            "or (a.subject in (com.example.backend.entity.utilities.AlertSubject.APPROVAL, com.example.backend.entity.utilities.AlertSubject.REJECTED) and a.user.id = :userId)) " +
+            "order by a.id desc")
+    List<AlertSubject> findRecruitmentSubjects(@Param("postsId") Long postsId,
+                                               @Param("authorId") Long authorId,
+                                               @Param("userId") Long userId,
+                                               Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Alert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 알림 목록 Slice 조회 (COUNT 쿼리 없이 size + 1개만 조회)
+ */
+public interface AlertRepositoryCustom {
+
+    // 검색 조건 + Slice 단위 조회 (보낸 회원과 게시글을 함께 조회)
+    Slice<Alert> findSlice(Specification<Alert> spec, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Alert;
+import com.example.backend.repository.projection.CardQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public class AlertRepositoryCustomImpl implements AlertRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Alert> findSlice(Specification<Alert> spec, Pageable pageable) {
+        return CardQueries.entitySlice(entityManager, Alert.class, spec, pageable, "Alert.list");
+    }
+}
@@ -4,12 +4,21 @@ import com.example.backend.entity.Alert;
 import com.example.backend.entity.AlertViewed;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface AlertViewedRepository extends JpaRepository<AlertViewed, Long> {
     void deleteByAlert(Alert alert);
     void deleteAllByUser(User user);
     boolean existsByUser(User user);
     boolean existsByAlert(Alert alert);
+
+    // 페이지에 포함된 알림 중 읽은 알림 ID 목록 (IN 쿼리 한 번)
+    @Query("select av.alert.id from AlertViewed av where av.alert in :alerts")
+    List<Long> findAlertIdsByAlertIn(@Param("alerts") Collection<Alert> alerts);
 }
@@ -1,10 +1,17 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.ChatRoom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, JpaSpecificationExecutor<ChatRoom> {
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, JpaSpecificationExecutor<ChatRoom>, ChatRoomRepositoryCustom {
+
+    // 채팅방 접속 확인 - 관리자와 초대된 회원을 함께 조회 (트랜잭션 밖의 웹소켓 핸들러에서 사용)
+    @EntityGraph("ChatRoom.members")
+    Optional<ChatRoom> findMembersById(Long id);
 }
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 채팅방 목록 Slice 조회 (COUNT 쿼리 없이 size + 1개만 조회)
+ */
+public interface ChatRoomRepositoryCustom {
+
+    // 검색 조건 + Slice 단위 조회
+    Slice<ChatRoom> findSlice(Specification<ChatRoom> spec, Pageable pageable);
+}
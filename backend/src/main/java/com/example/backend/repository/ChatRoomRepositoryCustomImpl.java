@@ -0,0 +1,20 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ChatRoom;
+import com.example.backend.repository.projection.CardQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<ChatRoom> findSlice(Specification<ChatRoom> spec, Pageable pageable) {
+        return CardQueries.entitySlice(entityManager, ChatRoom.class, spec, pageable);
+    }
+}
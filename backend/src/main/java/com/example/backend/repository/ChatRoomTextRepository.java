@@ -1,7 +1,8 @@
 package com.example.backend.repository;
 
-import com.example.backend.entity.ChatRoom;
 import com.example.backend.entity.ChatRoomText;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +10,12 @@ import java.util.List;
 
 @Repository
 public interface ChatRoomTextRepository extends JpaRepository<ChatRoomText, Long> {
-    List<ChatRoomText> findTop25ByRoom(ChatRoom chatRoom);
+
+    // 채팅 기록 - 최근 메시지부터, 작성자를 함께 조회 ((room_id, id) 인덱스를 역순으로 읽음)
+    @EntityGraph("ChatRoomText.history")
+    List<ChatRoomText> findByRoomIdOrderByIdDesc(Long roomId, Limit limit);
+
+    // 채팅 기록 - 커서(before) 이전 메시지 (키셋 조회)
+    @EntityGraph("ChatRoomText.history")
+    List<ChatRoomText> findByRoomIdAndIdLessThanOrderByIdDesc(Long roomId, Long before, Limit limit);
 }
@@ -1,17 +1,29 @@
 package com.example.backend.repository;
 
-import com.example.backend.entity.Comment;
 import com.example.backend.entity.CommentLikes;
 import com.example.backend.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long>, JpaSpecificationExecutor<CommentLikes> {
+public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long>, JpaSpecificationExecutor<CommentLikes>, CommentLikesRepositoryCustom {
 
-    Optional<CommentLikes> findByUserAndComment(User user, Comment comment);
-    boolean existsByUserAndComment(User user, Comment comment);
+    // 좋아요한 댓글 목록 - 게시글/댓글/회원을 함께 조회
+    @Override
+    @EntityGraph("CommentLikes.favorite")
+    Page<CommentLikes> findAll(Specification<CommentLikes> spec, Pageable pageable);
+
+    // 페이지에 포함된 댓글 중 회원이 좋아요한 댓글 ID 목록 (IN 쿼리 한 번)
+    @Query("select cl.comment.id from CommentLikes cl where cl.user = :user and cl.comment.id in :commentIds")
+    List<Long> findCommentIdsByUserAndCommentIdIn(@Param("user") User user, @Param("commentIds") Collection<Long> commentIds);
 }
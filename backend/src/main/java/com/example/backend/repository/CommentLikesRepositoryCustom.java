@@ -0,0 +1,13 @@
+package com.example.backend.repository;
+
+/**
+ * 댓글 좋아요 등록/취소 (엔티티를 읽지 않고 SQL 한 문장씩으로 처리)
+ */
+public interface CommentLikesRepositoryCustom {
+
+    // 좋아요 취소 (조건부 DELETE 한 문장, 삭제된 행 수 반환)
+    int deleteLike(Long userId, Long commentId);
+
+    // 좋아요 등록 (댓글이 없으면 0 반환, 이미 좋아요한 경우 유니크 제약 위반으로 DuplicateKeyException)
+    int insertLike(Long userId, Long commentId);
+}
@@ -0,0 +1,24 @@
+package com.example.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CommentLikesRepositoryCustomImpl implements CommentLikesRepositoryCustom {
+
+    private static final String DELETE_SQL = "delete from comment_likes where user_id = ? and comment_id = ?";
+    // 댓글이 있을 때만 삽입 (게시글 ID도 댓글 행에서 함께 읽음)
+    private static final String INSERT_SQL = "insert into comment_likes (user_id, comment_id, posts_id) select ?, c.id, c.posts_id from comment c where c.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int deleteLike(Long userId, Long commentId) {
+        return jdbcTemplate.update(DELETE_SQL, userId, commentId);
+    }
+
+    @Override
+    public int insertLike(Long userId, Long commentId) {
+        return jdbcTemplate.update(INSERT_SQL, userId, commentId);
+    }
+}
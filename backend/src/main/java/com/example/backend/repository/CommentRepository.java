@@ -1,11 +1,41 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Comment;
-import com.example.backend.entity.Posts;
+import com.example.backend.search.CommentDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment>, CommentRepositoryCustom {
+
+    // 좋아요 수 원자적 증감 (UPDATE ... SET like_count = like_count + ?)
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount + :delta where c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    // 검색 인덱스 누락 확인용 - 최대 ID (없으면 0)
+    @Query("select coalesce(max(c.id), 0) from Comment c")
+    long findMaxId();
+
+    // 검색 인덱스 누락 확인용 - 마지막 작성/수정 시각
+    @Query("select max(coalesce(c.modifiedDate, c.createdDate)) from Comment c")
+    LocalDateTime findLastModifiedDate();
+
+    // 검색 인덱스 재색인용 - ID 순서로 일정 개수씩 조회
+    @Query("select new com.example.backend.search.CommentDocument(c.id, p.id, p.user.id, p.subject, c.user.id, c.content) " +
+            "from Comment c join c.posts p where c.id > :after order by c.id")
+    List<CommentDocument> findDocumentsAfter(@Param("after") Long after, Pageable pageable);
+
+    // 검색 인덱스 갱신용 - 게시글 주제 변경 시 해당 게시글의 댓글 재색인
+    @Query("select new com.example.backend.search.CommentDocument(c.id, p.id, p.user.id, p.subject, c.user.id, c.content) " +
+            "from Comment c join c.posts p where p.id = :postsId")
+    List<CommentDocument> findDocumentsByPostsId(@Param("postsId") Long postsId);
 }
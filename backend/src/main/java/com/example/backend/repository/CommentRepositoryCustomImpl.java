@@ -0,0 +1,38 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Comment;
+import com.example.backend.repository.projection.CardQueries;
+import com.example.backend.repository.projection.CommentCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CommentCard> findCards(Specification<Comment> spec, Pageable pageable) {
+        return CardQueries.page(entityManager, Comment.class, CommentCard.class, spec, pageable,
+                (root, builder) -> CommentCard.columns(root));
+    }
+
+    @Override
+    public Slice<CommentCard> findCardSlice(Specification<Comment> spec, Pageable pageable) {
+        return CardQueries.slice(entityManager, Comment.class, CommentCard.class, spec, pageable,
+                (root, builder) -> CommentCard.columns(root));
+    }
+
+    @Override
+    public List<CommentCard> findCards(Specification<Comment> spec, Sort sort, int limit) {
+        return CardQueries.list(entityManager, Comment.class, CommentCard.class, spec, sort, limit,
+                (root, builder) -> CommentCard.columns(root));
+    }
+}
@@ -5,12 +5,18 @@ import com.example.backend.entity.Posts;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface PostsLikesRepository extends JpaRepository<PostsLikes, Long>, JpaSpecificationExecutor<PostsLikes> {
-    Optional<PostsLikes> findByUserAndPosts(User user, Posts posts);
+public interface PostsLikesRepository extends JpaRepository<PostsLikes, Long>, JpaSpecificationExecutor<PostsLikes>, PostsLikesRepositoryCustom {
     boolean existsByUserAndPosts(User user, Posts posts);
+
+    // 페이지에 포함된 게시글 중 회원이 좋아요한 게시글 ID 목록 (IN 쿼리 한 번)
+    @Query("select pl.posts.id from PostsLikes pl where pl.user = :user and pl.posts.id in :postsIds")
+    List<Long> findPostsIdsByUserAndPostsIdIn(@Param("user") User user, @Param("postsIds") Collection<Long> postsIds);
 }
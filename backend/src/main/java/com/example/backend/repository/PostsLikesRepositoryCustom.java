@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.PostsLikes;
+import com.example.backend.repository.projection.PostsCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 즐겨찾기 게시글 목록용 프로젝션 조회 (좋아요 엔티티 대신 게시글 카드 컬럼만 조회)
+ * 좋아요 등록/취소는 엔티티를 읽지 않고 SQL 한 문장씩으로 처리
+ */
+public interface PostsLikesRepositoryCustom {
+
+    // 검색 조건 + 페이지 단위 좋아요한 게시글 카드 조회
+    Page<PostsCard> findPostsCards(Specification<PostsLikes> spec, Pageable pageable);
+
+    // 좋아요 취소 (조건부 DELETE 한 문장, 삭제된 행 수 반환)
+    int deleteLike(Long userId, Long postsId);
+
+    // 좋아요 등록 (게시글이 없으면 0 반환, 이미 좋아요한 경우 유니크 제약 위반으로 DuplicateKeyException)
+    int insertLike(Long userId, Long postsId);
+}
@@ -0,0 +1,41 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.PostsLikes;
+import com.example.backend.repository.projection.CardQueries;
+import com.example.backend.repository.projection.PostsCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class PostsLikesRepositoryCustomImpl implements PostsLikesRepositoryCustom {
+
+    private static final String DELETE_SQL = "delete from posts_likes where user_id = ? and post_id = ?";
+    // 게시글이 있을 때만 삽입 (게시글 존재 확인을 별도 조회 없이 처리)
+    private static final String INSERT_SQL = "insert into posts_likes (user_id, post_id) select ?, p.id from posts p where p.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PostsCard> findPostsCards(Specification<PostsLikes> spec, Pageable pageable) {
+        return CardQueries.page(entityManager, PostsLikes.class, PostsCard.class, spec, pageable,
+                (root, builder) -> PostsCard.columns(root.get("posts")));
+    }
+
+    @Override
+    public int deleteLike(Long userId, Long postsId) {
+        return jdbcTemplate.update(DELETE_SQL, userId, postsId);
+    }
+
+    @Override
+    public int insertLike(Long userId, Long postsId) {
+        return jdbcTemplate.update(INSERT_SQL, userId, postsId);
+    }
+}
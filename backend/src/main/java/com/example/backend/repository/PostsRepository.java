@@ -1,13 +1,47 @@
 package com.example.backend.repository;
 
-import com.example.backend.entity.Comment;
 import com.example.backend.entity.Posts;
+import com.example.backend.search.PostsDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PostsRepository extends JpaRepository<Posts, Long>, JpaSpecificationExecutor<Posts> {
+public interface PostsRepository extends JpaRepository<Posts, Long>, JpaSpecificationExecutor<Posts>, PostsRepositoryCustom {
+
+    // 게시글 상세 - 작성자와 채택 댓글을 한 번에 조회
+    @EntityGraph("Posts.detail")
+    Optional<Posts> findDetailById(Long id);
+
+    // 좋아요 수 원자적 증감 (UPDATE ... SET like_count = like_count + ?)
+    @Modifying
+    @Query("update Posts p set p.likeCount = p.likeCount + :delta where p.id = :postsId")
+    int addLikeCount(@Param("postsId") Long postsId, @Param("delta") int delta);
+
+    // 댓글 수 원자적 증감 (UPDATE ... SET comment_count = comment_count + ?)
+    @Modifying
+    @Query("update Posts p set p.commentCount = p.commentCount + :delta where p.id = :postsId")
+    int addCommentCount(@Param("postsId") Long postsId, @Param("delta") int delta);
+
+    // 검색 인덱스 누락 확인용 - 최대 ID (없으면 0)
+    @Query("select coalesce(max(p.id), 0) from Posts p")
+    long findMaxId();
+
+    // 검색 인덱스 누락 확인용 - 마지막 작성/수정 시각
+    @Query("select max(coalesce(p.modifiedDate, p.createdDate)) from Posts p")
+    LocalDateTime findLastModifiedDate();
+
+    // 검색 인덱스 재색인용 - ID 순서로 일정 개수씩 조회
+    @Query("select new com.example.backend.search.PostsDocument(p.id, p.subject, p.user.id, p.title, p.content) " +
+            "from Posts p where p.id > :after order by p.id")
+    List<PostsDocument> findDocumentsAfter(@Param("after") Long after, Pageable pageable);
 }
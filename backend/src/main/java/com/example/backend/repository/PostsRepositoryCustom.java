@@ -0,0 +1,26 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Posts;
+import com.example.backend.repository.projection.PostsCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 게시글 목록용 프로젝션 조회 (엔티티 대신 카드에 필요한 컬럼만 조회)
+ */
+public interface PostsRepositoryCustom {
+
+    // 검색 조건 + 페이지 단위 카드 조회
+    Page<PostsCard> findCards(Specification<Posts> spec, Pageable pageable);
+
+    // 검색 조건 + Slice 단위 카드 조회 (COUNT 쿼리 없음)
+    Slice<PostsCard> findCardSlice(Specification<Posts> spec, Pageable pageable);
+
+    // 검색 조건 + 정렬 + 개수 제한 카드 조회 (커서 조회용)
+    List<PostsCard> findCards(Specification<Posts> spec, Sort sort, int limit);
+}
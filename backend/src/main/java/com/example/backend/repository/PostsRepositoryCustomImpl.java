@@ -0,0 +1,38 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Posts;
+import com.example.backend.repository.projection.CardQueries;
+import com.example.backend.repository.projection.PostsCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class PostsRepositoryCustomImpl implements PostsRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PostsCard> findCards(Specification<Posts> spec, Pageable pageable) {
+        return CardQueries.page(entityManager, Posts.class, PostsCard.class, spec, pageable,
+                (root, builder) -> PostsCard.columns(root));
+    }
+
+    @Override
+    public Slice<PostsCard> findCardSlice(Specification<Posts> spec, Pageable pageable) {
+        return CardQueries.slice(entityManager, Posts.class, PostsCard.class, spec, pageable,
+                (root, builder) -> PostsCard.columns(root));
+    }
+
+    @Override
+    public List<PostsCard> findCards(Specification<Posts> spec, Sort sort, int limit) {
+        return CardQueries.list(entityManager, Posts.class, PostsCard.class, spec, sort, limit,
+                (root, builder) -> PostsCard.columns(root));
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.backend.repository;
 
-import com.example.backend.entity.Posts;
-import com.example.backend.entity.User;
 import com.example.backend.entity.PostsViewed;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 이전 방식의 게시글 조회 정보 (조회 여부는 PostsViewedStore 사용)
+ */
 @Repository
 public interface PostsViewedRepository extends JpaRepository<PostsViewed, Long> {
-    boolean existsByUserAndPosts(User user, Posts posts);
 }
@@ -0,0 +1,27 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Report;
+import com.example.backend.repository.projection.CommentCard;
+import com.example.backend.repository.projection.PostsCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 신고 목록용 프로젝션 조회 (신고 엔티티 대신 신고된 게시글/댓글 카드 컬럼만 조회)
+ */
+public interface ReportRepositoryCustom {
+
+    // 검색 조건 + 페이지 단위 신고된 게시글 카드 조회
+    Page<PostsCard> findPostsCards(Specification<Report> spec, Pageable pageable);
+
+    // 검색 조건 + 페이지 단위 신고된 댓글 카드 조회
+    Page<CommentCard> findCommentCards(Specification<Report> spec, Pageable pageable);
+
+    // 검색 조건 + Slice 단위 신고된 게시글 카드 조회 (COUNT 쿼리 없음)
+    Slice<PostsCard> findPostsCardSlice(Specification<Report> spec, Pageable pageable);
+
+    // 검색 조건 + Slice 단위 신고된 댓글 카드 조회 (COUNT 쿼리 없음)
+    Slice<CommentCard> findCommentCardSlice(Specification<Report> spec, Pageable pageable);
+}
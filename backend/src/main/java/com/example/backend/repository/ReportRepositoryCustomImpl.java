@@ -0,0 +1,42 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Report;
+import com.example.backend.repository.projection.CardQueries;
+import com.example.backend.repository.projection.CommentCard;
+import com.example.backend.repository.projection.PostsCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public class ReportRepositoryCustomImpl implements ReportRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PostsCard> findPostsCards(Specification<Report> spec, Pageable pageable) {
+        return CardQueries.page(entityManager, Report.class, PostsCard.class, spec, pageable,
+                (root, builder) -> PostsCard.columns(root.get("posts")));
+    }
+
+    @Override
+    public Page<CommentCard> findCommentCards(Specification<Report> spec, Pageable pageable) {
+        return CardQueries.page(entityManager, Report.class, CommentCard.class, spec, pageable,
+                (root, builder) -> CommentCard.columns(root.get("comment")));
+    }
+
+    @Override
+    public Slice<PostsCard> findPostsCardSlice(Specification<Report> spec, Pageable pageable) {
+        return CardQueries.slice(entityManager, Report.class, PostsCard.class, spec, pageable,
+                (root, builder) -> PostsCard.columns(root.get("posts")));
+    }
+
+    @Override
+    public Slice<CommentCard> findCommentCardSlice(Specification<Report> spec, Pageable pageable) {
+        return CardQueries.slice(entityManager, Report.class, CommentCard.class, spec, pageable,
+                (root, builder) -> CommentCard.columns(root.get("comment")));
+    }
+}
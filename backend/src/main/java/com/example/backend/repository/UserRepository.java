@@ -1,18 +1,26 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
 
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // 쿼리 캐시 - 결과(회원 ID)는 쿼리 캐시, 회원 엔티티는 2차 캐시에서 읽음
+    // users 테이블이 JPA로 변경되면 Hibernate가 자동으로 무효화한다
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 }
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 회원 목록 Slice 조회 (COUNT 쿼리 없이 size + 1개만 조회)
+ */
+public interface UserRepositoryCustom {
+
+    // 검색 조건 + Slice 단위 조회
+    Slice<User> findSlice(Specification<User> spec, Pageable pageable);
+}
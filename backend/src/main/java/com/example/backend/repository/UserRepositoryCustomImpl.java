@@ -0,0 +1,20 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.User;
+import com.example.backend.repository.projection.CardQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<User> findSlice(Specification<User> spec, Pageable pageable) {
+        return CardQueries.entitySlice(entityManager, User.class, spec, pageable);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.backend.repository.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Specification 검색 조건을 그대로 사용하면서 SELECT 절만 카드 프로젝션으로 바꿔 조회하는 헬퍼
+ * 엔티티 전체를 하이드레이션하지 않으므로 @Lob 컬럼과 즉시 로딩 연관관계를 읽지 않는다
+ * Slice 조회는 size + 1개만 가져와 다음 페이지 여부를 판단하고 COUNT 쿼리를 실행하지 않는다
+ */
+public final class CardQueries {
+
+    private CardQueries() {
+    }
+
+    /**
+     * 카드 생성자에 전달할 컬럼 목록
+     * @param <E> 조회 대상 엔티티
+     */
+    @FunctionalInterface
+    public interface Columns<E> {
+        Selection<?>[] select(Root<E> root, CriteriaBuilder builder);
+    }
+
+    /**
+     * 페이지 단위 카드 조회 (COUNT 쿼리는 필요한 경우에만 실행)
+     * @param em 엔티티 매니저
+     * @param entityClass 조회 대상 엔티티
+     * @param cardClass 카드 프로젝션 클래스
+     * @param spec 검색 조건
+     * @param pageable 페이지 정보
+     * @param columns 카드 생성자에 전달할 컬럼
+     * @return 카드 페이지
+     */
+    public static <E, R> Page<R> page(EntityManager em, Class<E> entityClass, Class<R> cardClass,
+                                      Specification<E> spec, Pageable pageable, Columns<E> columns) {
+        TypedQuery<R> query = createQuery(em, entityClass, cardClass, spec, pageable.getSort(), columns);
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(em, entityClass, spec));
+    }
+
+    /**
+     * 정렬 + 개수 제한 카드 조회 (커서 조회용, COUNT 쿼리 없음)
+     * @param em 엔티티 매니저
+     * @param entityClass 조회 대상 엔티티
+     * @param cardClass 카드 프로젝션 클래스
+     * @param spec 검색 조건
+     * @param sort 정렬 정보
+     * @param limit 최대 조회 개수
+     * @param columns 카드 생성자에 전달할 컬럼
+     * @return 카드 리스트
+     */
+    public static <E, R> List<R> list(EntityManager em, Class<E> entityClass, Class<R> cardClass,
+                                      Specification<E> spec, Sort sort, int limit, Columns<E> columns) {
+        return createQuery(em, entityClass, cardClass, spec, sort, columns)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Slice 단위 카드 조회 (COUNT 쿼리 없음)
+     * @param em 엔티티 매니저
+     * @param entityClass 조회 대상 엔티티
+     * @param cardClass 카드 프로젝션 클래스
+     * @param spec 검색 조건
+     * @param pageable 페이지 정보
+     * @param columns 카드 생성자에 전달할 컬럼
+     * @return 카드 Slice
+     */
+    public static <E, R> Slice<R> slice(EntityManager em, Class<E> entityClass, Class<R> cardClass,
+                                        Specification<E> spec, Pageable pageable, Columns<E> columns) {
+        return toSlice(createQuery(em, entityClass, cardClass, spec, pageable.getSort(), columns), pageable);
+    }
+
+    /**
+     * Slice 단위 엔티티 조회 (COUNT 쿼리 없음)
+     * @param em 엔티티 매니저
+     * @param entityClass 조회 대상 엔티티
+     * @param spec 검색 조건
+     * @param pageable 페이지 정보
+     * @return 엔티티 Slice
+     */
+    public static <E> Slice<E> entitySlice(EntityManager em, Class<E> entityClass, Specification<E> spec, Pageable pageable) {
+        return toSlice(createQuery(em, entityClass, entityClass, spec, pageable.getSort(), null), pageable);
+    }
+
+    /**
+     * Slice 단위 엔티티 조회 + 이름 있는 엔티티 그래프로 연관 엔티티를 함께 조회
+     * @param em 엔티티 매니저
+     * @param entityClass 조회 대상 엔티티
+     * @param spec 검색 조건
+     * @param pageable 페이지 정보
+     * @param entityGraph 함께 조회할 연관 관계를 정의한 @NamedEntityGraph 이름
+     * @return 엔티티 Slice
+     */
+    public static <E> Slice<E> entitySlice(EntityManager em, Class<E> entityClass, Specification<E> spec, Pageable pageable, String entityGraph) {
+        TypedQuery<E> query = createQuery(em, entityClass, entityClass, spec, pageable.getSort(), null)
+                .setHint("jakarta.persistence.fetchgraph", em.getEntityGraph(entityGraph));
+        return toSlice(query, pageable);
+    }
+
+    private static <R> Slice<R> toSlice(TypedQuery<R> query, Pageable pageable) {
+        List<R> rows = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * @param columns 카드 생성자에 전달할 컬럼 (null이면 엔티티 자체를 조회)
+     */
+    @SuppressWarnings("unchecked")
+    private static <E, R> TypedQuery<R> createQuery(EntityManager em, Class<E> entityClass, Class<R> resultClass,
+                                                    Specification<E> spec, Sort sort, Columns<E> columns) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<R> query = builder.createQuery(resultClass);
+        Root<E> root = query.from(entityClass);
+
+        applySpecification(spec, root, query, builder);
+
+        if (columns != null) {
+            query.select(builder.construct(resultClass, columns.select(root, builder)));
+        } else {
+            query.select((Selection<? extends R>) root);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, builder));
+        }
+
+        return em.createQuery(query);
+    }
+
+    private static <E> long count(EntityManager em, Class<E> entityClass, Specification<E> spec) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<E> root = query.from(entityClass);
+
+        applySpecification(spec, root, query, builder);
+
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+
+        return em.createQuery(query).getSingleResult();
+    }
+
+    private static <E> void applySpecification(Specification<E> spec, Root<E> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        if (spec == null) return;
+
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
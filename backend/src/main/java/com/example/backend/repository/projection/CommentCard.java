@@ -0,0 +1,49 @@
+package com.example.backend.repository.projection;
+
+import com.example.backend.entity.utilities.PostsSubject;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록(카드)에 필요한 컬럼만 담는 생성자 프로젝션
+ * 게시글/작성자 엔티티를 로딩하지 않고 필요한 컬럼만 조회한다
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCard {
+    private Long id;
+    private Long postsId;
+    private String postsTitle;
+    private PostsSubject postsSubject;
+    private String content;
+    private String username;
+    private LocalDateTime modifiedDate;
+    private LocalDateTime createdDate;
+    private Integer postsCommentCount;
+    private Integer likeCount;
+
+    /**
+     * 생성자 순서에 맞춘 SELECT 컬럼 목록
+     * @param comment 댓글 경로 (Comment 루트 또는 Report의 comment 경로)
+     * @return 선택할 컬럼 배열
+     */
+    public static Selection<?>[] columns(Path<?> comment) {
+        Path<?> posts = comment.get("posts");
+        return new Selection<?>[]{
+                comment.get("id"),
+                posts.get("id"),
+                posts.get("title"),
+                posts.get("subject"),
+                comment.get("content"),
+                comment.get("user").get("username"),
+                comment.get("modifiedDate"),
+                comment.get("createdDate"),
+                posts.get("commentCount"),
+                comment.get("likeCount")
+        };
+    }
+}
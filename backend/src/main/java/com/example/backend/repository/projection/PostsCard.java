@@ -0,0 +1,46 @@
+package com.example.backend.repository.projection;
+
+import com.example.backend.entity.utilities.PostsSubject;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록(카드)에 필요한 컬럼만 담는 생성자 프로젝션
+ * content(@Lob)와 작성자 엔티티를 로딩하지 않고 username 컬럼만 조회한다
+ */
+@Getter
+@AllArgsConstructor
+public class PostsCard {
+    private Long id;
+    private PostsSubject subject;
+    private String title;
+    private String username;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+    private Long viewCount;
+    private Integer likeCount;
+    private Integer commentCount;
+
+    /**
+     * 생성자 순서에 맞춘 SELECT 컬럼 목록
+     * @param posts 게시글 경로 (Posts 루트 또는 PostsLikes/Report의 posts 경로)
+     * @return 선택할 컬럼 배열
+     */
+    public static Selection<?>[] columns(Path<?> posts) {
+        return new Selection<?>[]{
+                posts.get("id"),
+                posts.get("subject"),
+                posts.get("title"),
+                posts.get("user").get("username"),
+                posts.get("createdDate"),
+                posts.get("modifiedDate"),
+                posts.get("viewCount"),
+                posts.get("likeCount"),
+                posts.get("commentCount")
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.pattern.PatternReplaceCharFilter;
+
+import java.io.Reader;
+import java.util.regex.Pattern;
+
+/**
+ * 공백을 제거하고 소문자로 바꾼 뒤 2글자 단위(bigram)로 자르는 분석기
+ * 기존 검색(REPLACE(LOWER(col), ' ', '') LIKE '%term%')과 같은 공백 무시 부분 일치를 위해 사용
+ * 예) "자바 스크립트" -> "자바", "바스", "스크", "크립", "립트"
+ */
+public class BigramAnalyzer extends Analyzer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    protected Reader initReader(String fieldName, Reader reader) {
+        return new PatternReplaceCharFilter(WHITESPACE, "", reader);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new NGramTokenizer(2, 2);
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
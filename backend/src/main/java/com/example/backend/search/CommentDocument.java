@@ -0,0 +1,32 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.Comment;
+import com.example.backend.entity.utilities.PostsSubject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스에 저장할 댓글 정보
+ */
+@Getter
+@AllArgsConstructor
+public class CommentDocument {
+    private Long id;
+    private Long postsId;
+    // 게시글 작성자 ID (회원 탈퇴 시 cascade로 삭제되는 댓글 정리용)
+    private Long postsUserId;
+    // 게시글 주제 (탭 필터용)
+    private PostsSubject subject;
+    private Long userId;
+    private String content;
+
+    public static CommentDocument of(Comment comment) {
+        return new CommentDocument(
+                comment.getId(),
+                comment.getPosts().getId(),
+                comment.getPosts().getUser().getId(),
+                comment.getPosts().getSubject(),
+                comment.getUser().getId(),
+                comment.getContent());
+    }
+}
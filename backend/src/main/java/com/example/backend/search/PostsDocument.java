@@ -0,0 +1,28 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.Posts;
+import com.example.backend.entity.utilities.PostsSubject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스에 저장할 게시글 정보
+ */
+@Getter
+@AllArgsConstructor
+public class PostsDocument {
+    private Long id;
+    private PostsSubject subject;
+    private Long userId;
+    private String title;
+    private String content;
+
+    public static PostsDocument of(Posts posts) {
+        return new PostsDocument(
+                posts.getId(),
+                posts.getSubject(),
+                posts.getUser().getId(),
+                posts.getTitle(),
+                posts.getContent());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.backend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 조회 결과 (id DESC 순서의 ID 목록 + 전체 개수)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+    private List<Long> ids;
+    private long total;
+}
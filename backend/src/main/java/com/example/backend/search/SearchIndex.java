@@ -0,0 +1,473 @@
+package com.example.backend.search;
+
+import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.service.utilities.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+import static com.example.backend.entity.utilities.PostsSubject.*;
+
+/**
+ * 게시글/댓글 검색용 내장 Lucene 인덱스
+ * 검색어를 bigram 구문(phrase) 질의로 바꿔 공백 무시 부분 일치를 인덱스로 처리하고,
+ * id DESC 순서의 ID 목록만 반환한다 (실제 행은 DB에서 ID로 조회)
+ *
+ * 색인 변경은 트랜잭션 커밋 이후에 반영되며,
+ * 인덱스가 준비되지 않았거나 처리할 수 없는 검색이면 null을 반환해 기존 DB 검색을 사용하도록 한다
+ *
+ * - 변경 사항은 commit-interval-ms마다 디스크에 커밋한다 (비정상 종료 시 마지막 커밋 이후 변경만 유실)
+ * - 커밋마다 커밋 시각(committedAt)과 쓰기 실패 여부(dirty)를 함께 저장해, 다음 시작 때 유실/실패한 변경이 있으면 재색인한다
+ * - 쓰기에 실패하면 이 서버는 재시작(재색인) 전까지 DB 검색을 사용한다
+ * - 인덱스는 서버마다 따로 있으므로 다중 서버 모드(chat.cluster.enabled)에서는 색인하지 않고 DB 검색을 사용한다
+ *   (다른 서버에서 작성한 게시글/댓글이 이 서버의 인덱스에 반영되지 않음)
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    static final String TYPE_POSTS = "posts";
+    static final String TYPE_COMMENT = "comment";
+
+    private static final String TYPE = "type";
+    private static final String KEY = "key";
+    private static final String ID = "id";
+    private static final String SUBJECT = "subject";
+    private static final String USER_ID = "userId";
+    private static final String POSTS_ID = "postsId";
+    private static final String POSTS_USER_ID = "postsUserId";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+
+    private static final Sort ID_DESC = new Sort(new SortField(ID, SortField.Type.LONG, true));
+
+    // 커밋 정보 (마지막 커밋에 반영된 변경 시각, 쓰기 실패 여부)
+    private static final String COMMITTED_AT = "committedAt";
+    private static final String DIRTY = "dirty";
+    // DB 변경 시각(수정 시각 기록)과 색인 쓰기(커밋 이후) 사이의 여유 - 이 시간 안의 변경은 커밋 이후에 색인됐을 수 있음
+    private static final Duration COMMIT_MARGIN = Duration.ofMinutes(1);
+
+    private final String indexPath;
+    private final boolean enabled;
+    private final Analyzer analyzer = new BigramAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // 초기 색인이 끝나기 전 / 쓰기 실패 이후에는 검색에 사용하지 않음
+    private volatile boolean ready = false;
+    // 반영되지 않은 색인 변경이 있음 (다음 시작 때 재색인)
+    private volatile boolean dirty = false;
+
+    /**
+     * @param indexPath 인덱스 저장 경로 (비어 있으면 메모리에 저장)
+     * @param clustered 다중 서버 모드 여부 (인덱스를 사용하지 않음)
+     */
+    public SearchIndex(@Value("${search.index.path:}") String indexPath,
+                       @Value("${chat.cluster.enabled:false}") boolean clustered) {
+        this.indexPath = indexPath;
+        this.enabled = !clustered;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            log.info("다중 서버 모드 - 검색 인덱스를 사용하지 않음 (DB 검색)");
+            return;
+        }
+
+        directory = StringUtils.hasText(indexPath) ? FSDirectory.open(Path.of(indexPath)) : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        dirty = Boolean.parseBoolean(commitData().get(DIRTY));
+        log.info("검색 인덱스 열기: {}", StringUtils.hasText(indexPath) ? indexPath : "memory");
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (!enabled) return;
+
+        searcherManager.close();
+        // 정상 종료 - 요청 처리가 끝난 뒤이므로 지금까지의 변경이 모두 반영됨
+        commit(System.currentTimeMillis());
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * 게시글 색인 추가/갱신 (커밋 이후 반영)
+     * @param document 게시글 정보
+     */
+    public void indexPosts(PostsDocument document) {
+        TransactionUtils.afterCommit(() -> write(() -> writer.updateDocument(key(TYPE_POSTS, document.getId()), toDocument(document))));
+    }
+
+    /**
+     * 게시글 여러 건 색인 추가/갱신 (커밋 이후 반영)
+     * @param documents 게시글 정보 목록
+     */
+    public void indexPosts(Collection<PostsDocument> documents) {
+        TransactionUtils.afterCommit(() -> write(() -> {
+            for (PostsDocument document : documents) {
+                writer.updateDocument(key(TYPE_POSTS, document.getId()), toDocument(document));
+            }
+        }));
+    }
+
+    /**
+     * 게시글과 게시글에 달린 댓글 색인 삭제 (커밋 이후 반영)
+     * @param postsId 게시글 ID
+     */
+    public void deletePosts(Long postsId) {
+        TransactionUtils.afterCommit(() -> write(() -> writer.deleteDocuments(
+                key(TYPE_POSTS, postsId),
+                new Term(POSTS_ID, postsId.toString()))));
+    }
+
+    /**
+     * 댓글 색인 추가/갱신 (커밋 이후 반영)
+     * @param document 댓글 정보
+     */
+    public void indexComment(CommentDocument document) {
+        TransactionUtils.afterCommit(() -> write(() -> writer.updateDocument(key(TYPE_COMMENT, document.getId()), toDocument(document))));
+    }
+
+    /**
+     * 댓글 여러 건 색인 추가/갱신 (커밋 이후 반영)
+     * @param documents 댓글 정보 목록
+     */
+    public void indexComments(Collection<CommentDocument> documents) {
+        TransactionUtils.afterCommit(() -> write(() -> {
+            for (CommentDocument document : documents) {
+                writer.updateDocument(key(TYPE_COMMENT, document.getId()), toDocument(document));
+            }
+        }));
+    }
+
+    /**
+     * 댓글 색인 삭제 (커밋 이후 반영)
+     * @param commentId 댓글 ID
+     */
+    public void deleteComment(Long commentId) {
+        TransactionUtils.afterCommit(() -> write(() -> writer.deleteDocuments(key(TYPE_COMMENT, commentId))));
+    }
+
+    /**
+     * 회원 탈퇴 시 회원의 게시글/댓글과 회원 게시글에 달린 댓글 색인 삭제 (커밋 이후 반영)
+     * @param userId 회원 ID
+     */
+    public void deleteByUser(Long userId) {
+        TransactionUtils.afterCommit(() -> write(() -> writer.deleteDocuments(
+                new Term(USER_ID, userId.toString()),
+                new Term(POSTS_USER_ID, userId.toString()))));
+    }
+
+    /**
+     * 게시글 검색
+     * @param searchField 검색 필드 (제목, 내용 - 작성자는 username_norm 접두사 검색으로 DB에서 처리)
+     * @param searchTerm 검색 단어
+     * @param userId 작성자 ID (전체 게시글이면 null)
+     * @param tab 검색 탭
+     * @param before 커서 - 이 ID보다 작은 게시글만 조회 (없으면 null)
+     * @param offset 건너뛸 개수
+     * @param limit 조회할 개수
+     * @return id DESC 순서의 게시글 ID 목록, 인덱스로 처리할 수 없으면 null
+     */
+    public SearchHits searchPosts(String searchField, String searchTerm, Long userId, Integer tab, Long before, int offset, int limit) {
+        if (searchField == null) return null;
+
+        String field = switch (searchField) {
+            case "제목" -> TITLE;
+            case "내용" -> CONTENT;
+            default -> null;
+        };
+        if (field == null) return null;
+
+        return search(TYPE_POSTS, field, searchTerm, userId, tab, before, offset, limit);
+    }
+
+    /**
+     * 댓글 내용 검색
+     * @param searchTerm 검색 단어
+     * @param userId 작성자 ID (전체 댓글이면 null)
+     * @param tab 검색 탭 (게시글 주제)
+     * @param before 커서 - 이 ID보다 작은 댓글만 조회 (없으면 null)
+     * @param offset 건너뛸 개수
+     * @param limit 조회할 개수
+     * @return id DESC 순서의 댓글 ID 목록, 인덱스로 처리할 수 없으면 null
+     */
+    public SearchHits searchComments(String searchTerm, Long userId, Integer tab, Long before, int offset, int limit) {
+        return search(TYPE_COMMENT, CONTENT, searchTerm, userId, tab, before, offset, limit);
+    }
+
+    /**
+     * 색인 변경을 디스크에 커밋 (commit-interval-ms 주기, 변경이 없으면 생략)
+     */
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:5000}")
+    public void commitChanges() {
+        if (writer == null || !writer.hasUncommittedChanges()) return;
+
+        // 커밋 시작 전 시각 - 이후에 들어온 변경은 이번 커밋에 없을 수 있음
+        long committedAt = System.currentTimeMillis() - COMMIT_MARGIN.toMillis();
+        try {
+            commit(committedAt);
+        } catch (IOException | AlreadyClosedException e) {
+            log.error("검색 인덱스 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 인덱스 사용 여부 (다중 서버 모드이면 false)
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 색인 변경이 있는지 확인
+     */
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 마지막 커밋에 반영된 DB 변경 시각 (밀리초, 커밋 기록이 없으면 0)
+     * 이 시각 이후에 수정된 행이 있으면 색인이 유실되었을 수 있다
+     */
+    long committedAt() {
+        String value = commitData().get(COMMITTED_AT);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * 색인된 문서 중 가장 큰 ID (없으면 0)
+     * @param type 문서 타입
+     * @return 최대 ID
+     */
+    long maxId(String type) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopFieldDocs top = searcher.search(new TermQuery(new Term(TYPE, type)), 1, ID_DESC);
+            if (top.scoreDocs.length == 0) return 0L;
+            return searcher.storedFields().document(top.scoreDocs[0].doc).getField(ID).numericValue().longValue();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 색인된 문서 수 (초기 색인 필요 여부 확인용)
+     * @param type 문서 타입
+     * @return 문서 수
+     */
+    long count(String type) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.count(new TermQuery(new Term(TYPE, type)));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 전체 색인 삭제 (재색인 전에 사용, 즉시 반영)
+     */
+    void clear() {
+        write(() -> writer.deleteAll());
+    }
+
+    /**
+     * 초기 색인 완료 - 커밋 후 검색에 인덱스 사용
+     */
+    void markReady() throws IOException {
+        dirty = false;
+        commit(System.currentTimeMillis() - COMMIT_MARGIN.toMillis());
+        ready = true;
+    }
+
+    private synchronized void commit(long committedAt) throws IOException {
+        writer.setLiveCommitData(Map.of(COMMITTED_AT, Long.toString(committedAt), DIRTY, Boolean.toString(dirty)).entrySet());
+        writer.commit();
+    }
+
+    private Map<String, String> commitData() {
+        Map<String, String> data = new HashMap<>();
+        Iterable<Map.Entry<String, String>> live = writer.getLiveCommitData();
+        if (live != null) {
+            live.forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        }
+        return data;
+    }
+
+    private SearchHits search(String type, String field, String searchTerm, Long userId, Integer tab, Long before, int offset, int limit) {
+        if (!ready || limit <= 0) return null;
+
+        // 2글자 미만 검색어는 bigram이 없으므로 DB 검색 사용
+        Query textQuery = phraseQuery(field, searchTerm);
+        if (textQuery == null) return null;
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, type)), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.FILTER);
+
+        if (userId != null) {
+            builder.add(new TermQuery(new Term(USER_ID, userId.toString())), BooleanClause.Occur.FILTER);
+        }
+
+        PostsSubject subject = subjectOf(tab);
+        if (subject != null) {
+            builder.add(new TermQuery(new Term(SUBJECT, subject.name())), BooleanClause.Occur.FILTER);
+        }
+
+        if (before != null) {
+            builder.add(LongPoint.newRangeQuery(ID, Long.MIN_VALUE, before - 1), BooleanClause.Occur.FILTER);
+        }
+
+        Query query = builder.build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs top = searcher.search(query, offset + limit, ID_DESC);
+                StoredFields storedFields = searcher.storedFields();
+
+                List<Long> ids = new ArrayList<>();
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ids.add(storedFields.document(top.scoreDocs[i].doc).getField(ID).numericValue().longValue());
+                }
+
+                return new SearchHits(ids, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.error("검색 인덱스 조회 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 검색어를 bigram으로 나눠 연속된 위치의 구문 질의로 변환 (부분 문자열 일치)
+     * @return 구문 질의, bigram이 없으면 null
+     */
+    private Query phraseQuery(String field, String searchTerm) {
+        if (!StringUtils.hasText(searchTerm)) return null;
+
+        PhraseQuery.Builder builder = new PhraseQuery.Builder();
+        int position = 0;
+
+        try (TokenStream stream = analyzer.tokenStream(field, searchTerm)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                builder.add(new Term(field, term.toString()), position++);
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return position == 0 ? null : builder.build();
+    }
+
+    private static PostsSubject subjectOf(Integer tab) {
+        if (tab == null) return null;
+        return switch (tab) {
+            case 1 -> QUESTION;
+            case 2 -> SHARE;
+            case 3 -> RECRUIT;
+            default -> null;
+        };
+    }
+
+    private static Term key(String type, Long id) {
+        return new Term(KEY, type + ":" + id);
+    }
+
+    private static Document toDocument(PostsDocument posts) {
+        Document document = baseDocument(TYPE_POSTS, posts.getId(), posts.getSubject(), posts.getUserId());
+        addText(document, TITLE, posts.getTitle());
+        addText(document, CONTENT, posts.getContent());
+        return document;
+    }
+
+    private static Document toDocument(CommentDocument comment) {
+        Document document = baseDocument(TYPE_COMMENT, comment.getId(), comment.getSubject(), comment.getUserId());
+        document.add(new StringField(POSTS_ID, comment.getPostsId().toString(), Field.Store.NO));
+        document.add(new StringField(POSTS_USER_ID, comment.getPostsUserId().toString(), Field.Store.NO));
+        addText(document, CONTENT, comment.getContent());
+        return document;
+    }
+
+    private static Document baseDocument(String type, Long id, PostsSubject subject, Long userId) {
+        Document document = new Document();
+        document.add(new StringField(TYPE, type, Field.Store.NO));
+        document.add(new StringField(KEY, type + ":" + id, Field.Store.NO));
+        // 커서 범위 조회, 정렬, 결과 ID 반환용
+        document.add(new LongPoint(ID, id));
+        document.add(new NumericDocValuesField(ID, id));
+        document.add(new StoredField(ID, id));
+        if (subject != null) {
+            document.add(new StringField(SUBJECT, subject.name(), Field.Store.NO));
+        }
+        document.add(new StringField(USER_ID, userId.toString(), Field.Store.NO));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    /**
+     * 색인 쓰기 후 검색기에 바로 반영
+     * 실패해도 요청은 실패시키지 않고, 이 서버는 DB 검색으로 전환한 뒤 실패 기록을 커밋해 다음 시작 때 재색인한다
+     */
+    private void write(IndexTask task) {
+        if (!enabled) return;
+
+        try {
+            task.run();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException | AlreadyClosedException e) {
+            log.error("검색 인덱스 쓰기 실패 - 재시작 전까지 DB 검색 사용", e);
+            ready = false;
+            dirty = true;
+            try {
+                commit(committedAt());
+            } catch (IOException | AlreadyClosedException commitError) {
+                log.error("검색 인덱스 실패 기록 커밋 실패", commitError);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.search;
+
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 검색 인덱스와 DB를 비교해 다르면 전체 재색인
+ * (메모리 인덱스, 인덱스 파일 유실, 비정상 종료로 인한 누락, 이전 실행의 쓰기 실패 보정)
+ *
+ * - 문서 수: 누락된 삭제/작성
+ * - 최대 ID: 삭제와 작성이 함께 누락되어 문서 수가 같아진 경우
+ * - 마지막 작성/수정 시각: 마지막 커밋 이후의 수정 (비정상 종료로 커밋되지 않은 변경)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final PostsRepository postsRepository;
+    private final CommentRepository commentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() throws IOException {
+        if (!searchIndex.isEnabled()) return;
+
+        long postsCount = postsRepository.count();
+        long commentCount = commentRepository.count();
+
+        String reason = staleReason(postsCount, commentCount);
+        if (reason != null) {
+            log.info("검색 인덱스 재색인 시작 ({}) - 게시글 {}건, 댓글 {}건", reason, postsCount, commentCount);
+            searchIndex.clear();
+            reindexPosts();
+            reindexComments();
+        }
+
+        searchIndex.markReady();
+        log.info("검색 인덱스 준비 완료");
+    }
+
+    /**
+     * 재색인이 필요한 이유 (필요 없으면 null)
+     */
+    private String staleReason(long postsCount, long commentCount) throws IOException {
+        if (searchIndex.isDirty()) return "이전 쓰기 실패";
+        if (searchIndex.count(SearchIndex.TYPE_POSTS) != postsCount
+                || searchIndex.count(SearchIndex.TYPE_COMMENT) != commentCount) return "문서 수 불일치";
+        if (searchIndex.maxId(SearchIndex.TYPE_POSTS) != postsRepository.findMaxId()
+                || searchIndex.maxId(SearchIndex.TYPE_COMMENT) != commentRepository.findMaxId()) return "최대 ID 불일치";
+
+        long committedAt = searchIndex.committedAt();
+        if (isAfter(postsRepository.findLastModifiedDate(), committedAt)
+                || isAfter(commentRepository.findLastModifiedDate(), committedAt)) return "커밋 이후 수정";
+        return null;
+    }
+
+    private static boolean isAfter(LocalDateTime modifiedDate, long epochMillis) {
+        return modifiedDate != null && modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() > epochMillis;
+    }
+
+    private void reindexPosts() {
+        long lastId = 0L;
+        List<PostsDocument> batch;
+        do {
+            batch = postsRepository.findDocumentsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            searchIndex.indexPosts(batch);
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    private void reindexComments() {
+        long lastId = 0L;
+        List<CommentDocument> batch;
+        do {
+            batch = commentRepository.findDocumentsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+            if (batch.isEmpty()) break;
+            searchIndex.indexComments(batch);
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
@@ -2,6 +2,8 @@
  * Spring Security의 UserDetails 인터페이스를 구현한 클래스.
  * 데이터베이스의 실제 사용자(User) 정보를 Spring Security의 인증/인가 시스템이
  * 사용할 수 있는 형태로 래핑(Wrapping)하여 제공합니다.
+ * JWT 인증에서는 토큰의 claim(ID, 이메일, 회원명, 권한)만 채운 비영속 User를 담으므로,
+ * 그 밖의 필드나 연관관계가 필요한 서비스는 회원 ID로 엔티티를 조회해서 사용합니다.
  */
 
 package com.example.backend.security;
@@ -26,7 +28,7 @@ import static com.example.backend.entity.utilities.Role.ROLE_USER;
 @ToString
 public class CustomUserDetails implements UserDetails {
 
-    // 데이터베이스에서 조회된 실제 사용자 엔티티 객체
+    // 로그인 시 데이터베이스에서 조회된 사용자 엔티티 또는 JWT claim으로 만든 사용자 객체
     private final User user;
 
     /**
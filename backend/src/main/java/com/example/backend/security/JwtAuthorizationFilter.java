@@ -2,6 +2,7 @@
  * JWT 기반 인증을 위해 모든 요청에 대해 실행되는 필터.
  * HTTP 요청 헤더에서 JWT 토큰을 추출하고, 토큰을 검증하여
  * 유효한 경우 Security Context에 인증 정보를 설정합니다.
+ * 인증 정보는 토큰의 claim으로 만들며 DB를 조회하지 않습니다.
  */
 
 package com.example.backend.security;
@@ -15,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -30,7 +30,6 @@ import java.util.Arrays;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
 
     /**
      * HTTP 요청이 들어올 때마다
@@ -49,13 +48,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             String token = parseBearerToken(request);
             // 2. 토큰이 존재하고 내용이 있는 경우에만 검증을 진행합니다.
             if(StringUtils.hasText(token)) {
-                // 3. TokenProvider를 사용하여 토큰을 검증하고 사용자 이름(PostsSubject)을 추출합니다.
-                String username = tokenProvider.validateAndGetUsername(token);
+                // 3. TokenProvider를 사용하여 토큰(서명, 만료, 토큰 버전)을 검증하고
+                // 4. 토큰의 claim(회원 ID, 이메일, 회원명, 권한)으로 UserDetails 객체를 만듭니다. (DB 조회 없음)
+                CustomUserDetails userDetails = tokenProvider.validateAndGetUserDetails(token);
 
-                // 4. 추출된 사용자 이름으로 DB에서 UserDetails 객체를 로드합니다.
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-                // 5. 로드된 UserDetails를 기반으로 Spring Security의 인증 객체를 생성합니다.
+                // 5. UserDetails를 기반으로 Spring Security의 인증 객체를 생성합니다.
                 // - 첫 번째 인자: 인증 주체 (Principal)로 UserDetails 객체를 사용합니다.
                 // - 두 번째 인자: 자격 증명 (Credentials)은 JWT 인증에서는 null로 설정합니다.
                 // - 세 번째 인자: 사용자의 권한 (Authorities)을 설정합니다.
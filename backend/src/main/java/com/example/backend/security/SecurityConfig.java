@@ -78,6 +78,7 @@ public class SecurityConfig {
                 // 4. 요청별 인가(권한) 규칙 설정
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.GET, "/api/posts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/trending").permitAll()
                         // health check
                         .requestMatchers(HttpMethod.GET, "/healthcheck").permitAll()
                         .requestMatchers(HttpMethod.GET, "/").permitAll()
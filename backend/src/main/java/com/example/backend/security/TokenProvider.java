@@ -1,10 +1,14 @@
 /**
  * JWT 토큰의 생성, 만료 시간 설정 및 토큰 유효성 검증을 담당하는 클래스.
  * Spring Security와 함께 사용하여 인증/인가 과정에서 토큰을 처리합니다.
+ * 토큰에는 회원 ID, 회원명, 권한, 토큰 버전을 담아 요청마다 DB를 조회하지 않고 인증 정보를 만듭니다.
  */
 
 package com.example.backend.security;
 
+import com.example.backend.entity.User;
+import com.example.backend.entity.utilities.Role;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
@@ -12,7 +16,6 @@ import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -22,7 +25,14 @@ import java.util.Date;
 @Component
 public class TokenProvider {
 
+    // 토큰에 담는 회원 정보 (subject는 이메일)
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String USERNAME_CLAIM = "username";
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+
     private final SecretKey key; // 서명에 사용될 키
+    private final TokenVersionStore tokenVersionStore; // 토큰 무효화용 회원별 버전
 
     @Getter
     private final long expiration; // 토큰의 만료 시간
@@ -32,29 +42,39 @@ public class TokenProvider {
      *
      * @param secretKey 환경 설정에서 주입받은 Base64 인코딩된 비밀 키 문자열
      * @param expirationTime 환경 설정에서 주입받은 토큰 만료 시간 (밀리초)
+     * @param tokenVersionStore 회원별 토큰 버전 저장소
      */
     public TokenProvider(@Value("${jwt.secret}") String secretKey,
-                         @Value("${jwt.expiration}") long expirationTime) {
+                         @Value("${jwt.expiration}") long expirationTime,
+                         TokenVersionStore tokenVersionStore) {
         // Base64 인코딩된 비밀 키를 디코딩합니다.
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         // 디코딩된 바이트 배열을 사용하여 HMAC SHA 키를 생성합니다.
         this.key = Keys.hmacShaKeyFor(keyBytes);
         // 토큰 만료 시간을 설정합니다.
         this.expiration = expirationTime;
+        this.tokenVersionStore = tokenVersionStore;
     }
 
     /**
      * 사용자 정보(UserDetails)를 기반으로 JWT를 생성합니다.
      *
+     * 회원 ID, 회원명, 권한과 현재 토큰 버전을 claim으로 담습니다.
+     *
      * @param userDetails 인증된 사용자의 세부 정보
      * @return 생성된 JWT 문자열
      */
-    public String tokenProvide(UserDetails userDetails) {
+    public String tokenProvide(CustomUserDetails userDetails) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        User user = userDetails.getUser();
 
         return Jwts.builder()
                 .subject(userDetails.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(ROLE_CLAIM, user.getAuthority() != null ? user.getAuthority().name() : null)
+                .claim(VERSION_CLAIM, tokenVersionStore.current(user.getId()))
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key, Jwts.SIG.HS256) // HS256 알고리즘과 비밀 키로 서명합니다.
@@ -62,23 +82,40 @@ public class TokenProvider {
     }
 
     /**
-     * 주어진 JWT 토큰을 검증하고 토큰에 담긴 사용자 이름(subject)을 추출합니다.
+     * 주어진 JWT 토큰을 검증하고 토큰에 담긴 claim으로 인증 정보를 만듭니다. (DB 조회 없음)
+     * 토큰 버전이 현재 버전과 다르면 회원 정보 변경/탈퇴로 무효화된 토큰으로 봅니다.
      *
      * @param token 검증할 JWT 문자열
-     * @return 유효한 경우, 토큰의 subject
-     * @return 유효하지 않거나 파싱에 실패한 경우 에러
+     * @return 유효한 경우, claim으로 만든 CustomUserDetails
+     * @return 유효하지 않거나, 파싱에 실패하거나, 무효화된 경우 에러
      */
-    public String validateAndGetUsername(String token) {
+    public CustomUserDetails validateAndGetUserDetails(String token) {
+        Claims claims;
         try {
-            return Jwts.parser()
+            claims = Jwts.parser()
                     .verifyWith(key) // 토큰 생성 시 사용된 것과 동일한 키로 서명을 검증합니다.
                     .build()
                     .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
+                    .getPayload();
         } catch (Exception e) {
             log.error("Can not parse JWT: {}", e.getMessage());
+            throw new JwtException("Invalid JWT token");
         }
-        throw new JwtException("Invalid JWT token");
+
+        // 회원 ID가 없는 이전 형식의 토큰은 다시 로그인해야 함
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        Long version = claims.get(VERSION_CLAIM, Long.class);
+        if (userId == null || version == null || !tokenVersionStore.isCurrent(userId, version)) {
+            throw new JwtException("Revoked JWT token");
+        }
+
+        String role = claims.get(ROLE_CLAIM, String.class);
+        User user = User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .username(claims.get(USERNAME_CLAIM, String.class))
+                .authority(role != null ? Role.valueOf(role) : null)
+                .build();
+        return new CustomUserDetails(user);
     }
 }
@@ -0,0 +1,79 @@
+package com.example.backend.security;
+
+import com.example.backend.service.utilities.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 회원별 토큰 버전 저장소
+ * JWT에는 발급 시점의 버전(ver)이 담기며, 회원 정보/권한이 바뀌거나 탈퇴하면 버전을 올려
+ * 이전에 발급된 토큰을 모두 무효화한다
+ *
+ * - 요청마다 Redis를 조회하지 않도록 버전을 LOCAL_TTL 동안 메모리에 보관한다
+ * - 같은 서버에서 올린 버전은 즉시 반영되고 다른 서버에는 최대 LOCAL_TTL 뒤에 반영된다
+ * - 보관된 버전보다 새 버전의 토큰이 들어오면 Redis에서 다시 읽으므로 새로 발급된 토큰은 바로 통과한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenVersionStore {
+
+    // Redis key: "TokenVersion:" + 회원 ID
+    private static final String KEY_PREFIX = "TokenVersion:";
+    // 메모리 보관 시간 (다른 서버에서 올린 버전이 반영되는 최대 지연)
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(5);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    /**
+     * 현재 토큰 버전 조회 (기록이 없으면 0)
+     * @param userId 회원 ID
+     * @return 토큰 버전
+     */
+    public long current(Long userId) {
+        return versions.get(userId, this::load);
+    }
+
+    /**
+     * 토큰의 버전이 현재 버전인지 확인
+     * @param userId 회원 ID
+     * @param version 토큰에 담긴 버전
+     * @return 현재 버전이면 true
+     */
+    public boolean isCurrent(Long userId, long version) {
+        long current = current(userId);
+        if (version > current) {
+            // 다른 서버에서 버전을 올린 뒤 새로 발급된 토큰
+            current = load(userId);
+            versions.put(userId, current);
+        }
+        return version == current;
+    }
+
+    /**
+     * 회원의 기존 토큰 무효화 (현재 트랜잭션이 있으면 커밋 이후 반영)
+     * @param userId 회원 ID
+     */
+    public void revoke(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+            versions.put(userId, version == null ? 0L : version);
+            log.info("토큰 무효화: userId={}, version={}", userId, version);
+        });
+    }
+
+    private long load(Long userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
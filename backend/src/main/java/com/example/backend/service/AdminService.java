@@ -1,5 +1,6 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.comment.index.CommentIndexResponse;
 import com.example.backend.dto.posts.index.PostsIndexResponse;
 import com.example.backend.dto.user.UserIndexResponse;
@@ -8,17 +9,21 @@ import com.example.backend.entity.Posts;
 import com.example.backend.entity.Report;
 import com.example.backend.entity.User;
 import com.example.backend.repository.*;
+import com.example.backend.repository.projection.CommentCard;
+import com.example.backend.repository.projection.PostsCard;
 import com.example.backend.service.searchSpec.ReportCommentSearchSpec;
 import com.example.backend.service.searchSpec.ReportPostsSearchSpec;
 import com.example.backend.service.searchSpec.ReportUserSearchSpec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -26,11 +31,10 @@ public class AdminService {
 
     private final ReportRepository reportRepository;
     private final PostsRepository postsRepository;
-    private final PostsLikesRepository postsLikesRepository;
-    private final PostsViewedRepository postsViewedRepository;
     private final CommentRepository commentRepository;
-    private final CommentLikesRepository commentLikesRepository;
     private final UserRepository userRepository;
+    private final SavedStatusService savedStatusService;
+    private final ListCountCache listCountCache;
 
 
     /**
@@ -45,23 +49,39 @@ public class AdminService {
     public Page<PostsIndexResponse> indexPosts(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
         Specification<Report> spec = ReportPostsSearchSpec.search(searchField, searchTerm, tab);
 
-        Page<Report> reportPage =  reportRepository.findAll(spec, pageable);
-
-        return reportPage.map(item -> {
-            Posts posts = item.getPosts();
-            return PostsIndexResponse.builder()
-                    .id(posts.getId())
-                    .subject(posts.getSubject().getSubject())
-                    .title(posts.getTitle())
-                    .username(posts.getUser().getUsername())
-                    .likes(posts.getLikes().size())
-                    .savedInLikes(postsLikesRepository.existsByUserAndPosts(user, posts))
-                    .savedInViews(postsViewedRepository.existsByUserAndPosts(user, posts))
-                    .viewCount(posts.getViewCount())
-                    .createdDate(posts.getCreatedDate())
-                    .modifiedDate(posts.getModifiedDate())
-                    .build();
-        });
+        // 신고 엔티티 대신 신고된 게시글의 카드 컬럼만 조회
+        Page<PostsCard> postsPage = reportRepository.findPostsCards(spec, pageable);
+
+        // 페이지 단위로 좋아요/조회 여부를 한 번에 조회
+        List<Long> postsIds = postsPage.map(PostsCard::getId).getContent();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        return postsPage.map(posts -> toPostsResponse(posts, likedIds, viewedIds));
+    }
+
+    /**
+     * 신고된 게시글을 Slice 단위로 조회 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param user 현재 회원
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 게시글 Slice
+     */
+    public SliceResponse<PostsIndexResponse> indexPostsSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        Specification<Report> spec = ReportPostsSearchSpec.search(searchField, searchTerm, tab);
+
+        Slice<PostsCard> postsSlice = reportRepository.findPostsCardSlice(spec, pageable);
+
+        List<Long> postsIds = postsSlice.map(PostsCard::getId).getContent();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        // 신고 목록은 관리자 전체가 같은 결과를 보므로 회원 구분 없이 개수 캐시 공유
+        ListCountCache.CountKey key = new ListCountCache.CountKey("reportPosts", null, tab, searchField, searchTerm);
+        return listCountCache.respond(postsSlice, key, () -> reportRepository.count(spec))
+                .map(posts -> toPostsResponse(posts, likedIds, viewedIds));
     }
 
     /**
@@ -75,24 +95,34 @@ public class AdminService {
      */
     public Page<CommentIndexResponse> indexComment(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
         Specification<Report> spec = ReportCommentSearchSpec.search(searchField, searchTerm, tab);
-        Page<Report> reportPage = reportRepository.findAll(spec, pageable);
-
-        return reportPage.map(item -> {
-            Comment comment = item.getComment();
-            return CommentIndexResponse.builder()
-                    .id(comment.getId())
-                    .postId(comment.getPosts().getId())
-                    .postTitle(comment.getPosts().getTitle())
-                    .subject(comment.getPosts().getSubject().getSubject())
-                    .content(comment.getContent())
-                    .username(comment.getUser().getUsername())
-                    .modifiedDate(comment.getModifiedDate())
-                    .createdDate(comment.getCreatedDate())
-                    .commentNumber(comment.getPosts().getCommentList().size())
-                    .likes(comment.getLikes().size())
-                    .savedInLikes(commentLikesRepository.existsByUserAndComment(user, comment))
-                    .build();
-        });
+        // 신고 엔티티 대신 신고된 댓글의 카드 컬럼만 조회
+        Page<CommentCard> commentPage = reportRepository.findCommentCards(spec, pageable);
+
+        // 페이지 단위로 좋아요 여부를 한 번에 조회
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, commentPage.map(CommentCard::getId).getContent());
+
+        return commentPage.map(comment -> toCommentResponse(comment, likedIds));
+    }
+
+    /**
+     * 신고된 댓글을 Slice 단위로 조회 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param user 현재 회원
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 댓글 Slice
+     */
+    public SliceResponse<CommentIndexResponse> indexCommentSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        Specification<Report> spec = ReportCommentSearchSpec.search(searchField, searchTerm, tab);
+
+        Slice<CommentCard> commentSlice = reportRepository.findCommentCardSlice(spec, pageable);
+
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, commentSlice.map(CommentCard::getId).getContent());
+
+        ListCountCache.CountKey key = new ListCountCache.CountKey("reportComment", null, tab, searchField, searchTerm);
+        return listCountCache.respond(commentSlice, key, () -> reportRepository.count(spec))
+                .map(comment -> toCommentResponse(comment, likedIds));
     }
 
     /**
@@ -106,12 +136,22 @@ public class AdminService {
         Specification<User> spec = ReportUserSearchSpec.search(searchField, searchTerm);
         Page<User> userPage = userRepository.findAll(spec, pageable);
 
-        return userPage.map(item -> UserIndexResponse.builder()
-                .id(item.getId())
-                .email(item.getEmail())
-                .username(item.getUsername())
-                .createdDate(item.getCreatedDate())
-                .build());
+        return userPage.map(this::toUserResponse);
+    }
+
+    /**
+     * 사용자를 Slice 단위로 조회 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 사용자 Slice
+     */
+    public SliceResponse<UserIndexResponse> indexUserSlice(Pageable pageable, String searchField, String searchTerm) {
+        Specification<User> spec = ReportUserSearchSpec.search(searchField, searchTerm);
+        Slice<User> userSlice = userRepository.findSlice(spec, pageable);
+
+        ListCountCache.CountKey key = new ListCountCache.CountKey("reportUser", null, null, searchField, searchTerm);
+        return listCountCache.respond(userSlice, key, () -> userRepository.count(spec)).map(this::toUserResponse);
     }
 
     /**
@@ -141,4 +181,45 @@ public class AdminService {
         }
 
     }
+
+    private PostsIndexResponse toPostsResponse(PostsCard posts, Set<Long> likedIds, Set<Long> viewedIds) {
+        return PostsIndexResponse.builder()
+                .id(posts.getId())
+                .subject(posts.getSubject().getSubject())
+                .title(posts.getTitle())
+                .username(posts.getUsername())
+                .likes(posts.getLikeCount())
+                .commentNumber(posts.getCommentCount())
+                .savedInLikes(likedIds.contains(posts.getId()))
+                .savedInViews(viewedIds.contains(posts.getId()))
+                .viewCount(posts.getViewCount())
+                .createdDate(posts.getCreatedDate())
+                .modifiedDate(posts.getModifiedDate())
+                .build();
+    }
+
+    private CommentIndexResponse toCommentResponse(CommentCard comment, Set<Long> likedIds) {
+        return CommentIndexResponse.builder()
+                .id(comment.getId())
+                .postId(comment.getPostsId())
+                .postTitle(comment.getPostsTitle())
+                .subject(comment.getPostsSubject().getSubject())
+                .content(comment.getContent())
+                .username(comment.getUsername())
+                .modifiedDate(comment.getModifiedDate())
+                .createdDate(comment.getCreatedDate())
+                .commentNumber(comment.getPostsCommentCount())
+                .likes(comment.getLikeCount())
+                .savedInLikes(likedIds.contains(comment.getId()))
+                .build();
+    }
+
+    private UserIndexResponse toUserResponse(User item) {
+        return UserIndexResponse.builder()
+                .id(item.getId())
+                .email(item.getEmail())
+                .username(item.getUsername())
+                .createdDate(item.getCreatedDate())
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.alert.AlertIndexResponse;
 import com.example.backend.dto.alert.CheckNewAlertResponse;
 import com.example.backend.entity.Alert;
@@ -8,16 +10,22 @@ import com.example.backend.entity.User;
 import com.example.backend.repository.AlertRepository;
 import com.example.backend.repository.AlertViewedRepository;
 import com.example.backend.service.searchSpec.AlertSearchSpec;
+import com.example.backend.service.searchSpec.CursorSpec;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -27,6 +35,7 @@ public class AlertService {
     private EntityManager entityManager;
     private final AlertRepository alertRepository;
     private final AlertViewedRepository alertViewedRepository;
+    private final ListCountCache listCountCache;
 
 
     /**
@@ -44,28 +53,69 @@ public class AlertService {
 
         Page<Alert> alertPage = alertRepository.findAll(spec, pageable);
 
-        Page<AlertIndexResponse> responses = alertPage.map(item -> AlertIndexResponse.builder()
-                .id(item.getId())
-                .subject(item.getSubject().getSubject())
-                .postsId(item.getPosts().getId())
-                .postsTitle(item.getPosts().getTitle())
-                .username(item.getSender().getUsername())
-                // 읽을 알림에 저장되어 있으면 true 아니면 false
-                .savedInViews(alertViewedRepository.existsByAlert(item))
-                .content(item.getContent())
-                .createdDate(item.getCreatedDate())
-                .build());
+        Set<Long> viewedIds = viewedIds(alertPage.getContent());
+        Page<AlertIndexResponse> responses = alertPage.map(item -> toIndexResponse(item, viewedIds));
+
+        // 안 읽은 알림들 읽음에 저장
+        markViewed(user, alertPage.getContent(), viewedIds);
+
+        return responses;
+    }
+
+    /**
+     * 알림을 Slice 단위로 조회 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param user 현재 회원
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 알림 Slice
+     */
+    @Transactional
+    public SliceResponse<AlertIndexResponse> indexSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        Specification<Alert> spec = AlertSearchSpec.search(user, searchField, searchTerm, tab);
+
+        Slice<Alert> alertSlice = alertRepository.findSlice(spec, pageable);
+
+        Set<Long> viewedIds = viewedIds(alertSlice.getContent());
+        ListCountCache.CountKey key = new ListCountCache.CountKey("alert", user.getId(), tab, searchField, searchTerm);
+        SliceResponse<AlertIndexResponse> responses = listCountCache.respond(alertSlice, key, () -> alertRepository.count(spec))
+                .map(item -> toIndexResponse(item, viewedIds));
 
         // 안 읽은 알림들 읽음에 저장
-        alertPage.stream().forEach(item -> {
-            if (!alertViewedRepository.existsByAlert(item)) {
-                alertViewedRepository.save(AlertViewed.builder().user(user).alert(item).build());
-            }
-        });
+        markViewed(user, alertSlice.getContent(), viewedIds);
 
         return responses;
     }
 
+    /**
+     * 알림을 커서(id DESC) 기준으로 조회
+     * OFFSET과 COUNT 쿼리 없이 size + 1개만 조회한다
+     * @param user 현재 회원
+     * @param after 이전 페이지의 마지막 알림 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 커서 기반 알림 리스트
+     */
+    @Transactional
+    public CursorResponse<AlertIndexResponse> indexAfter(User user, Long after, int size, String searchField, String searchTerm, Integer tab) {
+        Specification<Alert> spec = AlertSearchSpec.search(user, searchField, searchTerm, tab).and(CursorSpec.before(after));
+
+        // 보낸 회원과 게시글은 함께 조회 (엔티티 그래프)
+        List<Alert> alerts = alertRepository.findBy(spec, query -> query.project("sender", "posts").sortBy(CursorSpec.ID_DESC).limit(size + 1).all());
+
+        Set<Long> viewedIds = viewedIds(alerts);
+        List<AlertIndexResponse> responses = alerts.stream().map(item -> toIndexResponse(item, viewedIds)).toList();
+        CursorResponse<AlertIndexResponse> cursorResponse = CursorResponse.of(responses, size, AlertIndexResponse::getId);
+
+        // 응답에 포함된 알림만 읽음에 저장 (다음 페이지 확인용 1개 제외)
+        markViewed(user, alerts.subList(0, cursorResponse.getContent().size()), viewedIds);
+
+        return cursorResponse;
+    }
+
     /**
      * 읽지 않은 알림 여부 조회 메서드
      * @param user 현재 회원
@@ -73,7 +123,50 @@ public class AlertService {
      */
     public CheckNewAlertResponse checkNewAlert(User user) {
         // 알림이 존재하고, 읽지 않은 알림이 있을 때
-        boolean isExistsNewAlert = alertRepository.findAllByUser(user).stream().anyMatch(item -> !alertViewedRepository.existsByAlert(item));
+        boolean isExistsNewAlert = alertRepository.existsUnviewedByUser(user);
         return CheckNewAlertResponse.builder().haveNew(isExistsNewAlert).build();
     }
+
+    /**
+     * 알림 엔티티를 목록용 DTO로 변환
+     * @param item 변환할 알림
+     * @param viewedIds 읽은 알림 ID 집합
+     * @return 목록용 알림 DTO
+     */
+    private AlertIndexResponse toIndexResponse(Alert item, Set<Long> viewedIds) {
+        return AlertIndexResponse.builder()
+                .id(item.getId())
+                .subject(item.getSubject().getSubject())
+                .postsId(item.getPosts().getId())
+                .postsTitle(item.getPosts().getTitle())
+                .username(item.getSender().getUsername())
+                // 읽을 알림에 저장되어 있으면 true 아니면 false
+                .savedInViews(viewedIds.contains(item.getId()))
+                .content(item.getContent())
+                .createdDate(item.getCreatedDate())
+                .build();
+    }
+
+    /**
+     * 조회된 알림 중 이미 읽은 알림 ID 조회 (알림마다 exists 쿼리를 실행하지 않고 IN 쿼리 한 번)
+     * @param alerts 조회된 알림 목록
+     * @return 읽은 알림 ID 집합
+     */
+    private Set<Long> viewedIds(List<Alert> alerts) {
+        if (alerts.isEmpty()) return Set.of();
+        return new HashSet<>(alertViewedRepository.findAlertIdsByAlertIn(alerts));
+    }
+
+    /**
+     * 안 읽은 알림들 읽음에 저장
+     * @param user 현재 회원
+     * @param alerts 조회된 알림 목록
+     * @param viewedIds 이미 읽은 알림 ID 집합
+     */
+    private void markViewed(User user, List<Alert> alerts, Set<Long> viewedIds) {
+        alertViewedRepository.saveAll(alerts.stream()
+                .filter(item -> !viewedIds.contains(item.getId()))
+                .map(item -> AlertViewed.builder().user(user).alert(item).build())
+                .toList());
+    }
 }
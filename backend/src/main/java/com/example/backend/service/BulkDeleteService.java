@@ -0,0 +1,185 @@
+package com.example.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글/댓글/회원 일괄 삭제
+ * JPA cascade는 자식 엔티티를 모두 메모리에 읽은 뒤 한 건씩 DELETE 하므로,
+ * 자식 테이블부터 부모 테이블 순서로 조건부 DELETE 문을 실행해 행 수와 관계없이 테이블당 한 문장으로 삭제한다
+ *
+ * - 게시글/댓글 삭제는 호출한 서비스의 트랜잭션 안에서 실행
+ * - 회원 삭제는 회원의 게시글과 댓글을 batch-size(기본 500)개씩 나눠 배치마다 별도 트랜잭션으로 삭제한 뒤 회원 행을 삭제한다
+ *   (긴 트랜잭션으로 잠금을 오래 잡지 않음, 중간에 실패해도 다시 호출하면 남은 행부터 이어서 삭제)
+ * - 엔티티를 거치지 않으므로 영속성 컨텍스트의 엔티티와 검색 색인/캐시는 호출한 쪽에서 정리한다
+ *   (2차 캐시의 회원/채팅방과 채팅방 최근 메시지 버퍼만 여기서 커밋 이후 무효화)
+ */
+@Slf4j
+@Service
+public class BulkDeleteService {
+
+    // 게시글 ID 목록(:ids)에 딸린 행 삭제 - 자식 테이블부터
+    private static final String[] DELETE_POSTS = {
+            "delete from alert_viewed where alert_id in (select a.id from alert a where a.posts_id in (:ids) " +
+                    "or a.comment_id in (select c.id from comment c where c.posts_id in (:ids)))",
+            "delete from alert where posts_id in (:ids) or comment_id in (select c.id from comment c where c.posts_id in (:ids))",
+            "delete from report where posts_id in (:ids) or comment_id in (select c.id from comment c where c.posts_id in (:ids))",
+            "delete from comment_likes where posts_id in (:ids) or comment_id in (select c.id from comment c where c.posts_id in (:ids))",
+            "delete from posts_likes where post_id in (:ids)",
+            "delete from posts_viewed where posts_id in (:ids)",
+            "delete from chat_room_text where room_id in (select r.id from chat_room r where r.posts_id in (:ids))",
+            "delete from chat_room_invited_users where chat_room_id in (select r.id from chat_room r where r.posts_id in (:ids))",
+            "delete from chat_room where posts_id in (:ids)",
+            // 게시글 <-> 채택 댓글 상호 참조를 먼저 끊음
+            "update posts set adopted_comment_id = null where id in (:ids) and adopted_comment_id is not null",
+            "delete from comment where posts_id in (:ids)",
+            "delete from posts where id in (:ids)"
+    };
+
+    // 댓글 ID 목록(:ids)에 딸린 행 삭제 - 자식 테이블부터
+    private static final String[] DELETE_COMMENTS = {
+            "update posts set adopted_comment_id = null where adopted_comment_id in (:ids)",
+            "delete from alert_viewed where alert_id in (select a.id from alert a where a.comment_id in (:ids))",
+            "delete from alert where comment_id in (:ids)",
+            "delete from report where comment_id in (:ids)",
+            "delete from comment_likes where comment_id in (:ids)",
+            "delete from comment where id in (:ids)"
+    };
+
+    // 다른 회원의 댓글 삭제 시 해당 게시글 댓글 수 보정
+    private static final String DECREASE_COMMENT_COUNT =
+            "update posts set comment_count = comment_count - " +
+                    "(select count(*) from comment c where c.posts_id = posts.id and c.id in (:ids)) " +
+                    "where id in (select c.posts_id from comment c where c.id in (:ids))";
+
+    // 회원(:userId) 자신의 행 삭제 - 회원의 게시글/댓글은 먼저 배치로 삭제된 상태
+    private static final String[] DELETE_USER = {
+            // 좋아요 취소에 맞춰 카운터 보정
+            "update posts set like_count = like_count - 1 where id in (select pl.post_id from posts_likes pl where pl.user_id = :userId)",
+            "delete from posts_likes where user_id = :userId",
+            "update comment set like_count = like_count - 1 where id in (select cl.comment_id from comment_likes cl where cl.user_id = :userId)",
+            "delete from comment_likes where user_id = :userId",
+            "delete from posts_viewed where user_id = :userId",
+            "delete from alert_viewed where user_id = :userId " +
+                    "or alert_id in (select a.id from alert a where a.receiver_id = :userId or a.sender_id = :userId)",
+            "delete from alert where receiver_id = :userId or sender_id = :userId",
+            "delete from report where user_id = :userId",
+            // 초대된 채팅방에서 나가면서 인원수 보정
+            "update posts set current_user_number = current_user_number - 1 where id in (select r.posts_id from chat_room r " +
+                    "where r.id in (select iu.chat_room_id from chat_room_invited_users iu where iu.user_id = :userId))",
+            "update chat_room set current_user_number = current_user_number - 1 " +
+                    "where id in (select iu.chat_room_id from chat_room_invited_users iu where iu.user_id = :userId)",
+            "delete from chat_room_invited_users where user_id = :userId",
+            // 관리하는 채팅방 (게시글과 함께 지워지지 않고 남은 경우)
+            "delete from chat_room_text where room_id in (select r.id from chat_room r where r.creator_id = :userId)",
+            "delete from chat_room_invited_users where chat_room_id in (select r.id from chat_room r where r.creator_id = :userId)",
+            "delete from chat_room where creator_id = :userId",
+            "delete from chat_room_text where writer_id = :userId",
+            "delete from users where id = :userId"
+    };
+
+    private static final String SELECT_POSTS_IDS = "select id from posts where user_id = :userId order by id limit :limit";
+    private static final String SELECT_COMMENT_IDS = "select id from comment where user_id = :userId order by id limit :limit";
+    private static final String SELECT_CHAT_ROOM_IDS = "select id from chat_room where posts_id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityCache entityCache;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+
+    public BulkDeleteService(NamedParameterJdbcTemplate jdbcTemplate,
+                             EntityCache entityCache,
+                             ChatHistoryBuffer chatHistoryBuffer,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${bulk-delete.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityCache = entityCache;
+        this.chatHistoryBuffer = chatHistoryBuffer;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게시글과 게시글에 딸린 댓글/좋아요/알림/신고/채팅방 삭제 (현재 트랜잭션에서 실행)
+     * @param postsId 게시글 ID
+     */
+    public void deletePosts(Long postsId) {
+        deletePosts(new MapSqlParameterSource("ids", List.of(postsId)));
+    }
+
+    /**
+     * 댓글과 댓글에 딸린 좋아요/알림/신고 삭제 (현재 트랜잭션에서 실행, 게시글 댓글 수는 호출한 쪽에서 보정)
+     * @param commentId 댓글 ID
+     */
+    public void deleteComment(Long commentId) {
+        execute(DELETE_COMMENTS, new MapSqlParameterSource("ids", List.of(commentId)));
+    }
+
+    /**
+     * 회원과 회원이 작성/참여한 모든 행 삭제
+     * 게시글과 댓글은 batch-size개씩 별도 트랜잭션으로 삭제하므로 트랜잭션 밖에서 호출해야 한다
+     * @param userId 회원 ID
+     * @return 삭제된 게시글 ID 목록 (인기 게시글 등 메모리 상태 정리용)
+     */
+    public List<Long> deleteUser(Long userId) {
+        List<Long> deletedPostsIds = new ArrayList<>();
+
+        // 회원의 게시글 (게시글에 달린 다른 회원의 댓글 포함)
+        List<Long> postsIds;
+        while (!(postsIds = nextIds(SELECT_POSTS_IDS, userId)).isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", postsIds);
+            batchTransaction.executeWithoutResult(status -> deletePosts(params));
+            deletedPostsIds.addAll(postsIds);
+            log.debug("회원 {} 게시글 {}건 삭제", userId, postsIds.size());
+        }
+
+        // 다른 회원 게시글에 작성한 댓글
+        List<Long> commentIds;
+        while (!(commentIds = nextIds(SELECT_COMMENT_IDS, userId)).isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", commentIds);
+            batchTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.update(DECREASE_COMMENT_COUNT, params);
+                execute(DELETE_COMMENTS, params);
+            });
+            log.debug("회원 {} 댓글 {}건 삭제", userId, commentIds.size());
+        }
+
+        batchTransaction.executeWithoutResult(status -> execute(DELETE_USER, new MapSqlParameterSource("userId", userId)));
+        // 초대된 채팅방의 인원수/초대 회원 목록도 바뀌었으므로 채팅방 캐시는 전체 무효화
+        entityCache.evictUser(userId);
+        entityCache.evictAllChatRooms();
+        // 여러 채팅방에 남긴 메시지도 삭제되었으므로 최근 메시지 버퍼도 전체 무효화
+        chatHistoryBuffer.evictAll();
+        log.info("회원 {} 삭제 완료 (게시글 {}건)", userId, deletedPostsIds.size());
+        return deletedPostsIds;
+    }
+
+    // 게시글 삭제 + 함께 삭제되는 채팅방의 2차 캐시/최근 메시지 버퍼 무효화
+    private void deletePosts(MapSqlParameterSource params) {
+        List<Long> roomIds = jdbcTemplate.queryForList(SELECT_CHAT_ROOM_IDS, params, Long.class);
+        execute(DELETE_POSTS, params);
+        entityCache.evictChatRooms(roomIds);
+        chatHistoryBuffer.evict(roomIds);
+    }
+
+    private List<Long> nextIds(String sql, Long userId) {
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource("userId", userId).addValue("limit", batchSize), Long.class);
+    }
+
+    private void execute(String[] statements, MapSqlParameterSource params) {
+        for (String sql : statements) {
+            jdbcTemplate.update(sql, params);
+        }
+    }
+}
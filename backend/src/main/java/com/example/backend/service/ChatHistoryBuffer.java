@@ -0,0 +1,184 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.chat.text.ChatRoomTextResponse;
+import com.example.backend.service.utilities.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 버퍼 (최대 buffer-size개, 오래된 메시지부터 밀려남)
+ * 채팅방을 열 때 최근 메시지를 DB 조회 없이 돌려주고, 그 이전 메시지는 ID 커서로 DB에서 조회한다
+ *
+ * - 채팅방의 첫 접근(조회 또는 메시지 전송) 때 DB의 최근 메시지로 채우고, 이후 전송되는 메시지를 이어 붙인다
+ * - 메시지 추가와 저장 요청을 채팅방 단위로 묶어서 실행하므로 버퍼 순서와 저장 순서(ID 순서)가 같다
+ *   (저장 요청이 거절되면(쓰기 지연 큐가 가득 참) 추가한 메시지를 다시 뺀다)
+ * - 메시지 ID는 쓰기 지연 저장이 끝난 뒤 채워지며, 가장 오래된 메시지의 ID가 아직 없으면(커서를 줄 수 없음) DB에서 조회한다
+ * - idle-minutes 동안 접근이 없거나 max-rooms를 넘어 밀려난 채팅방은 다음 접근 때 DB에서 다시 채운다
+ * - 다중 서버 모드(chat.cluster.enabled)에서는 다른 서버의 메시지가 이 버퍼를 거치지 않으므로 사용하지 않는다
+ */
+@Slf4j
+@Component
+public class ChatHistoryBuffer {
+
+    private final int capacity;
+    private final boolean enabled;
+    private final Cache<Long, RoomHistory> rooms;
+
+    /**
+     * @param capacity 채팅방별 보관할 메시지 수 (0이면 사용하지 않음)
+     * @param maxRooms 버퍼를 유지할 최대 채팅방 수
+     * @param idleMinutes 접근이 없으면 버퍼를 비우는 시간 (분)
+     * @param clustered 다중 서버 모드 여부
+     */
+    public ChatHistoryBuffer(@Value("${chat.history.buffer-size:25}") int capacity,
+                             @Value("${chat.history.max-rooms:10000}") long maxRooms,
+                             @Value("${chat.history.idle-minutes:30}") long idleMinutes,
+                             @Value("${chat.cluster.enabled:false}") boolean clustered) {
+        this.capacity = capacity;
+        this.enabled = capacity > 0 && !clustered;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    /**
+     * 채팅방의 최근 메시지 (오래된 순)
+     * @param roomId 채팅방 ID
+     * @param loader DB의 최근 메시지 조회 (버퍼가 없을 때 채우거나, 버퍼를 쓸 수 없을 때 사용)
+     * @return 최근 메시지
+     */
+    public List<ChatRoomTextResponse> recent(Long roomId, Supplier<List<ChatRoomTextResponse>> loader) {
+        if (!enabled) return loader.get();
+
+        List<ChatRoomTextResponse> recent = history(roomId, loader).snapshot();
+        if (!recent.isEmpty() && recent.get(0).getId() == null) {
+            // 버퍼 전체가 아직 저장 전 - 이전 메시지 커서를 줄 수 없으므로 DB에서 조회
+            return loader.get();
+        }
+        return recent;
+    }
+
+    /**
+     * 전송된 메시지 추가 후 저장 요청
+     * 저장 요청(persist)은 채팅방 잠금 안에서 실행되며, 저장 후 생성된 ID를 받을 콜백을 전달받는다
+     * @param roomId 채팅방 ID
+     * @param username 작성자 회원명
+     * @param text 내용
+     * @param createdDate 작성 시각
+     * @param loader DB의 최근 메시지 조회 (버퍼가 없을 때 채움)
+     * @param persist 저장 요청, 요청이 받아들여졌는지 반환 (버퍼를 사용하지 않으면 null 콜백으로 호출)
+     * @return 저장 요청이 받아들여졌는지 여부
+     */
+    public boolean append(Long roomId, String username, String text, LocalDateTime createdDate,
+                          Supplier<List<ChatRoomTextResponse>> loader, Predicate<LongConsumer> persist) {
+        if (!enabled) {
+            return persist.test(null);
+        }
+
+        RoomHistory history = history(roomId, loader);
+        synchronized (history) {
+            BufferedText buffered = new BufferedText(username, text, createdDate);
+            history.add(buffered);
+            if (persist.test(id -> buffered.id = id)) return true;
+
+            // 저장되지 않는 메시지는 버퍼에도 남기지 않음
+            history.remove(buffered);
+            return false;
+        }
+    }
+
+    /**
+     * 채팅방 버퍼 제거 (메시지가 DB에서 직접 삭제된 경우, 커밋 이후 반영)
+     * @param roomIds 채팅방 ID 목록
+     */
+    public void evict(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return;
+        TransactionUtils.afterCommit(() -> rooms.invalidateAll(roomIds));
+    }
+
+    /**
+     * 전체 채팅방 버퍼 제거 (커밋 이후 반영)
+     */
+    public void evictAll() {
+        TransactionUtils.afterCommit(rooms::invalidateAll);
+    }
+
+    private RoomHistory history(Long roomId, Supplier<List<ChatRoomTextResponse>> loader) {
+        return rooms.get(roomId, id -> {
+            RoomHistory history = new RoomHistory(capacity);
+            loader.get().forEach(response -> {
+                BufferedText buffered = new BufferedText(response.getUsername(), response.getText(), response.getCreatedDate());
+                buffered.id = response.getId();
+                history.add(buffered);
+            });
+            log.debug("채팅방 최근 메시지 버퍼 생성: roomId={}, {}건", id, history.texts.size());
+            return history;
+        });
+    }
+
+    /**
+     * 채팅방 하나의 메시지 (가득 차면 가장 오래된 메시지를 버림)
+     */
+    private static final class RoomHistory {
+
+        private final int capacity;
+        private final ArrayDeque<BufferedText> texts;
+
+        RoomHistory(int capacity) {
+            this.capacity = capacity;
+            this.texts = new ArrayDeque<>(capacity);
+        }
+
+        synchronized void add(BufferedText text) {
+            if (texts.size() == capacity) {
+                texts.pollFirst();
+            }
+            texts.addLast(text);
+        }
+
+        synchronized void remove(BufferedText text) {
+            texts.removeLastOccurrence(text);
+        }
+
+        synchronized List<ChatRoomTextResponse> snapshot() {
+            return texts.stream().map(BufferedText::toResponse).toList();
+        }
+    }
+
+    private static final class BufferedText {
+
+        private final String username;
+        private final String text;
+        private final LocalDateTime createdDate;
+        // 저장 스레드에서 채움
+        private volatile Long id;
+
+        BufferedText(String username, String text, LocalDateTime createdDate) {
+            this.username = username;
+            this.text = text;
+            this.createdDate = createdDate;
+        }
+
+        ChatRoomTextResponse toResponse() {
+            return ChatRoomTextResponse.builder()
+                    .id(id)
+                    .username(username)
+                    .text(text)
+                    .createdDate(createdDate)
+                    .build();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.chat.ChatRoomIndexResponse;
 import com.example.backend.dto.chat.ChatRoomShowResponse;
 import com.example.backend.dto.chat.UsernameAndIsConnectedResponse;
@@ -10,11 +12,13 @@ import com.example.backend.repository.ChatRoomRepository;
 import com.example.backend.repository.PostsRepository;
 import com.example.backend.repository.UserRepository;
 import com.example.backend.service.searchSpec.ChatRoomSpec;
+import com.example.backend.service.searchSpec.CursorSpec;
 import com.example.backend.socket.RoomChatHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +34,7 @@ public class ChatRoomService {
     private final UserRepository userRepository;
     private final PostsRepository postsRepository;
     private final RoomChatHandler roomChatHandler;
+    private final ListCountCache listCountCache;
 
     /**
      * 웹소켓 생성
@@ -126,14 +131,48 @@ public class ChatRoomService {
 
         Page<ChatRoom> responseEntities = chatRoomRepository.findAll(spec, pageable);
 
-        return responseEntities.map(item -> ChatRoomIndexResponse.builder()
-                .id(item.getId())
-                .roomName(item.getRoomName())
-                .currentUserNumber(item.getCurrentUserNumber())
-                .connectedUserNumber(roomChatHandler.getConnectedUserCount(item.getId()))
-                .creator(item.getCreator().getUsername())
-                .build());
+        return responseEntities.map(this::toIndexResponse);
+
+    }
+
+    /**
+     * 해당 회원이 초대된 채팅방을 Slice 단위로 조회하는 메서드 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param user 현재 회원
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 현재 탭
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 채팅방 Slice
+     */
+    public SliceResponse<ChatRoomIndexResponse> indexSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
 
+        Specification<ChatRoom> spec = ChatRoomSpec.search(user, searchField, searchTerm, tab);
+
+        Slice<ChatRoom> rooms = chatRoomRepository.findSlice(spec, pageable);
+
+        ListCountCache.CountKey key = new ListCountCache.CountKey("chatRoom", user.getId(), tab, searchField, searchTerm);
+        return listCountCache.respond(rooms, key, () -> chatRoomRepository.count(spec)).map(this::toIndexResponse);
+    }
+
+    /**
+     * 해당 회원이 초대된 채팅방을 커서(id DESC) 기준으로 조회하는 메서드
+     * OFFSET과 COUNT 쿼리 없이 size + 1개만 조회한다
+     * @param user 현재 회원
+     * @param after 이전 페이지의 마지막 채팅방 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 현재 탭
+     * @return 커서 기반 채팅방 리스트
+     */
+    public CursorResponse<ChatRoomIndexResponse> indexAfter(User user, Long after, int size, String searchField, String searchTerm, Integer tab) {
+
+        Specification<ChatRoom> spec = ChatRoomSpec.search(user, searchField, searchTerm, tab).and(CursorSpec.before(after));
+
+        List<ChatRoom> rooms = chatRoomRepository.findBy(spec, query -> query.sortBy(CursorSpec.ID_DESC).limit(size + 1).all());
+
+        List<ChatRoomIndexResponse> responses = rooms.stream().map(this::toIndexResponse).toList();
+        return CursorResponse.of(responses, size, ChatRoomIndexResponse::getId);
     }
 
     /**
@@ -163,4 +202,19 @@ public class ChatRoomService {
         }
         throw new IllegalAccessException("초대되지 않은 커뮤니티에는 입장할 수 없습니다.");
     }
+
+    /**
+     * 채팅방 엔티티를 목록용 DTO로 변환
+     * @param item 변환할 채팅방
+     * @return 목록용 채팅방 DTO
+     */
+    private ChatRoomIndexResponse toIndexResponse(ChatRoom item) {
+        return ChatRoomIndexResponse.builder()
+                .id(item.getId())
+                .roomName(item.getRoomName())
+                .currentUserNumber(item.getCurrentUserNumber())
+                .connectedUserNumber(roomChatHandler.getConnectedUserCount(item.getId()))
+                .creator(item.getCreator().getUsername())
+                .build();
+    }
 }
@@ -1,18 +1,18 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.chat.text.ChatRoomTextResponse;
-import com.example.backend.entity.ChatRoom;
 import com.example.backend.entity.ChatRoomText;
-import com.example.backend.entity.User;
 import com.example.backend.repository.ChatRoomRepository;
 import com.example.backend.repository.ChatRoomTextRepository;
-import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.socket.TextMessage;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -20,47 +20,61 @@ import java.util.List;
 @Service
 public class ChatRoomTextService {
 
+    // 한 번에 조회하는 메시지 수
+    private static final int PAGE_SIZE = 25;
+
     private final ChatRoomTextRepository chatRoomTextRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final UserRepository userRepository;
+    private final ChatRoomTextWriter chatRoomTextWriter;
+    private final ChatHistoryBuffer chatHistoryBuffer;
 
     /**
-     * 채팅방의 이전 25개의 메시지 가져오는 메서드
+     * 채팅방의 메시지 25개를 오래된 순으로 가져오는 메서드
+     * 커서가 없으면 최근 메시지 (최근 메시지 버퍼 - 채팅방도 2차 캐시에서 확인하므로 DB 조회 없음),
+     * 커서가 있으면 커서 ID 이전 메시지를 (room_id, id) 인덱스로 조회한다
      * @param roomId 가져올 채팅방
-     * @return 25개의 메시지
+     * @param before 이전 메시지 커서 (이미 받은 가장 오래된 메시지 ID, null이면 최근 메시지)
+     * @return 메시지 목록 (오래된 순, 비어 있으면 더 이전 메시지 없음)
      */
-    public List<ChatRoomTextResponse> getMessage(Long roomId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId).orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티가 존재하지 않습니다."));
-        List<ChatRoomText> chatRoomTextList = chatRoomTextRepository.findTop25ByRoom(chatRoom);
+    public List<ChatRoomTextResponse> getMessage(Long roomId, Long before) {
+        chatRoomRepository.findById(roomId).orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티가 존재하지 않습니다."));
 
-        return chatRoomTextList.stream().map(item -> ChatRoomTextResponse.builder()
-                .username(item.getWriter().getUsername())
-                .text(item.getText())
-                .createdDate(item.getCreatedDate())
-                .build()).toList();
+        if (before == null) {
+            return chatHistoryBuffer.recent(roomId, () -> load(roomId, null));
+        }
+        return load(roomId, before);
     }
 
     /**
      * 메시지 전송할 때 데이터베이스에 저장하는 메서드
+     * 채팅방과 작성자는 웹소켓 접속 시 확인했으므로 다시 조회하지 않고,
+     * 최근 메시지 버퍼에 추가한 뒤 쓰기 지연 큐에 넣어 전용 스레드에서 배치로 저장한다 (전송은 저장을 기다리지 않음)
      * @param roomId 채팅방 ID
-     * @param username 작성자
+     * @param writerId 작성자 ID
+     * @param username 작성자 회원명
      * @param message 내용
-     * @return 문자열로 변환된 내용
+     * @return 저장 요청 여부 (false면 쓰기 지연 큐가 가득 차 저장하지 않은 메시지이므로 전송하지 않아야 함)
      */
-    @Transactional
-    public String createMessage(Long roomId, String username, TextMessage message) {
-
-        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티가 존재하지 않습니다."));
-        User writer = userRepository.findByUsername(username).orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
+    public boolean createMessage(Long roomId, Long writerId, String username, TextMessage message) {
         String messageStr = message.getPayload();
+        LocalDateTime createdDate = LocalDateTime.now();
+        return chatHistoryBuffer.append(roomId, username, messageStr, createdDate, () -> load(roomId, null),
+                onSaved -> chatRoomTextWriter.enqueue(roomId, writerId, messageStr, createdDate, onSaved));
+    }
 
-        ChatRoomText target = ChatRoomText.builder()
-                .room(room)
-                .writer(writer)
-                .text(messageStr)
-                .build();
-        chatRoomTextRepository.save(target);
+    // 최근 순으로 조회한 뒤 화면에 표시할 순서(오래된 순)로 뒤집음
+    private List<ChatRoomTextResponse> load(Long roomId, Long before) {
+        List<ChatRoomText> texts = before == null
+                ? chatRoomTextRepository.findByRoomIdOrderByIdDesc(roomId, Limit.of(PAGE_SIZE))
+                : chatRoomTextRepository.findByRoomIdAndIdLessThanOrderByIdDesc(roomId, before, Limit.of(PAGE_SIZE));
 
-        return messageStr;
+        List<ChatRoomTextResponse> responses = new ArrayList<>(texts.stream().map(item -> ChatRoomTextResponse.builder()
+                .id(item.getId())
+                .username(item.getWriter().getUsername())
+                .text(item.getText())
+                .createdDate(item.getCreatedDate())
+                .build()).toList());
+        Collections.reverse(responses);
+        return responses;
     }
 }
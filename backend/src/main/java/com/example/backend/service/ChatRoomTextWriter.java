@@ -0,0 +1,249 @@
+package com.example.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * 채팅 메시지 쓰기 지연 저장
+ * 메시지 전송(웹소켓 스레드)에서 DB 트랜잭션을 기다리지 않도록 크기가 정해진 큐에 넣고,
+ * 전용 스레드가 batch-size개가 모이거나 flush-interval-ms가 지나면 JDBC 배치 INSERT로 한 번에 저장한다
+ *
+ * - 전용 스레드 하나가 큐 순서대로 저장하므로 같은 채팅방 메시지의 ID 순서가 전송 순서와 같다
+ * - 큐가 가득 차면 offer-timeout-ms까지만 빈자리를 기다리고, 그래도 넣지 못하면 저장하지 않고 버린다
+ *   (호출한 스레드에서 직접 저장하면 큐에 먼저 들어간 메시지보다 ID가 앞서고 웹소켓 스레드가 DB를 기다리게 됨)
+ *   버린 메시지 수는 droppedCount()로 확인하고, 호출한 쪽은 false를 받아 보낸 회원에게 알린다
+ * - 배치 INSERT는 한 트랜잭션으로 실행하고, 실패하면 배치 전체를 롤백한 뒤 한 건씩 다시 저장해
+ *   문제가 있는 행(삭제된 채팅방 등)만 제외한다 (실패 전에 들어간 행이 다시 저장되어 중복되지 않음)
+ * - flush-on-shutdown이 켜져 있으면 종료 시 큐에 남은 메시지를 모두 저장한 뒤 종료한다
+ * - 저장된 메시지의 ID는 생성 키로 받아 onSaved로 알려준다 (최근 메시지 버퍼의 커서용)
+ */
+@Slf4j
+@Component
+public class ChatRoomTextWriter {
+
+    private static final String INSERT_SQL = "insert into chat_room_text (room_id, writer_id, text, created_date) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingText> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean flushOnShutdown;
+    private final long shutdownTimeoutMs;
+    private final long offerTimeoutMs;
+
+    // 큐가 가득 차거나 종료 중이라 버린 메시지 수
+    private final LongAdder droppedTexts = new LongAdder();
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public ChatRoomTextWriter(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chat.writer.queue-capacity:10000}") int queueCapacity,
+                              @Value("${chat.writer.batch-size:100}") int batchSize,
+                              @Value("${chat.writer.flush-interval-ms:200}") long flushIntervalMs,
+                              @Value("${chat.writer.flush-on-shutdown:true}") boolean flushOnShutdown,
+                              @Value("${chat.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+                              @Value("${chat.writer.offer-timeout-ms:100}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.flushOnShutdown = flushOnShutdown;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() {
+        writerThread = new Thread(this::run, "chat-text-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 메시지 저장 요청 (전용 스레드에서 배치로 저장)
+     * 큐가 가득 차 있으면 offer-timeout-ms까지 기다린 뒤 버린다
+     * @param roomId 채팅방 ID
+     * @param writerId 작성자 ID
+     * @param text 내용
+     * @param createdDate 작성 시각
+     * @param onSaved 저장 후 생성된 ID를 받을 콜백 (null 가능, 저장 스레드에서 호출)
+     * @return 큐에 넣었으면 true, 큐가 가득 찼거나 종료 중이라 버렸으면 false
+     */
+    public boolean enqueue(Long roomId, Long writerId, String text, LocalDateTime createdDate, LongConsumer onSaved) {
+        PendingText pending = new PendingText(roomId, writerId, text, createdDate, onSaved);
+        try {
+            if (running && queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedTexts.increment();
+        log.warn("채팅 메시지 큐 가득 참 또는 종료 중 - 저장하지 않음: roomId={}, writerId={}, 대기 {}건",
+                roomId, writerId, queue.size());
+        return false;
+    }
+
+    /**
+     * 저장 대기 중인 메시지 수
+     * @return 큐에 남은 메시지 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 큐가 가득 차거나 종료 중이라 저장하지 않고 버린 메시지 수
+     * @return 버린 메시지 수 (서버 시작 이후 누적)
+     */
+    public long droppedCount() {
+        return droppedTexts.sum();
+    }
+
+    private void run() {
+        List<PendingText> batch = new ArrayList<>(batchSize);
+        while (running || (flushOnShutdown && !queue.isEmpty())) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 대기 시간이 지나 중단됨 - 이미 꺼낸 메시지는 저장하고 종료
+                Thread.currentThread().interrupt();
+                write(batch);
+                break;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지가 들어온 뒤 batch-size개가 모이거나 flush-interval-ms가 지날 때까지 모음
+     */
+    private void collect(List<PendingText> batch) throws InterruptedException {
+        PendingText first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) return;
+
+            PendingText next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingText> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            // 한 건이라도 실패하면 이미 들어간 행까지 롤백
+            KeyHolder keys = new GeneratedKeyHolder();
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                            new BatchPreparedStatementSetter() {
+                                @Override
+                                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                    batch.get(i).bind(ps);
+                                }
+
+                                @Override
+                                public int getBatchSize() {
+                                    return batch.size();
+                                }
+                            }, keys));
+            saved(batch, keys.getKeyList());
+            log.debug("채팅 메시지 저장: {}건", batch.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("채팅 메시지 배치 저장 실패, 한 건씩 다시 저장: {}건", batch.size(), e);
+            for (PendingText pending : batch) {
+                try {
+                    KeyHolder key = new GeneratedKeyHolder();
+                    jdbcTemplate.update(pending::prepare, key);
+                    saved(List.of(pending), key.getKeyList());
+                } catch (DataAccessException rowError) {
+                    log.error("채팅 메시지 저장 실패: roomId={}, writerId={}", pending.roomId(), pending.writerId(), rowError);
+                }
+            }
+        }
+    }
+
+    /**
+     * 생성된 ID를 메시지 순서대로 콜백에 전달
+     * 드라이버가 배치의 생성 키를 모두 돌려주지 않으면 전달하지 않는다 (ID 없는 메시지로 남음)
+     */
+    private void saved(List<PendingText> batch, List<Map<String, Object>> keys) {
+        if (keys.size() != batch.size()) {
+            log.debug("채팅 메시지 생성 키 수 불일치: {}건 저장, 키 {}개", batch.size(), keys.size());
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            LongConsumer onSaved = batch.get(i).onSaved();
+            Object id = keys.get(i).values().stream().findFirst().orElse(null);
+            if (onSaved != null && id instanceof Number number) {
+                onSaved.accept(number.longValue());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 전용 스레드 종료
+     * flush-on-shutdown이 켜져 있으면 남은 메시지를 저장할 때까지 shutdown-timeout-ms 동안 기다린다
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(shutdownTimeoutMs);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("저장되지 않은 채팅 메시지: {}건 (flush-on-shutdown={})", queue.size(), flushOnShutdown);
+        }
+    }
+
+    private record PendingText(Long roomId, Long writerId, String text, LocalDateTime createdDate, LongConsumer onSaved) {
+        void bind(PreparedStatement ps) throws SQLException {
+            ps.setLong(1, roomId);
+            ps.setLong(2, writerId);
+            ps.setString(3, text);
+            ps.setTimestamp(4, Timestamp.valueOf(createdDate));
+        }
+
+        PreparedStatement prepare(Connection con) throws SQLException {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            bind(ps);
+            return ps;
+        }
+    }
+}
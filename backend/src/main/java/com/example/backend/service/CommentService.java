@@ -1,5 +1,7 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.comment.create.CommentCreateRequest;
 import com.example.backend.dto.comment.create.CommentCreateResponse;
 import com.example.backend.dto.comment.delete.CommentDeleteResponse;
@@ -10,18 +12,30 @@ import com.example.backend.dto.likes.LikesResponse;
 import com.example.backend.entity.*;
 import com.example.backend.entity.utilities.Role;
 import com.example.backend.repository.*;
+import com.example.backend.repository.projection.CommentCard;
+import com.example.backend.search.CommentDocument;
+import com.example.backend.search.SearchHits;
+import com.example.backend.search.SearchIndex;
 import com.example.backend.service.searchSpec.CommentLikesSearchSpec;
 import com.example.backend.service.searchSpec.CommentSearchSpec;
+import com.example.backend.service.searchSpec.CursorSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static com.example.backend.entity.utilities.AlertSubject.*;
 
@@ -36,6 +50,12 @@ public class CommentService {
     private final AlertRepository alertRepository;
     private final AlertViewedRepository alertViewedRepository;
     private final UserRepository userRepository;
+    private final SavedStatusService savedStatusService;
+    private final SearchIndex searchIndex;
+    private final PublicFeedCache publicFeedCache;
+    private final ListCountCache listCountCache;
+    private final TrendingPostsRanking trendingPostsRanking;
+    private final BulkDeleteService bulkDeleteService;
 
     /**
      * 댓글 생성하는 메서드
@@ -55,6 +75,11 @@ public class CommentService {
                 .posts(posts)
                 .build();
         Comment created = commentRepository.save(target);
+        postsRepository.addCommentCount(postsId, 1);
+        searchIndex.indexComment(CommentDocument.of(created));
+        // 게시글 목록의 댓글 수 변경
+        publicFeedCache.invalidate();
+        trendingPostsRanking.record(postsId, TrendingPostsRanking.COMMENT_WEIGHT);
 
         // 알림 생성 및 작성자에게 전달
         Alert alert = Alert.builder()
@@ -76,24 +101,23 @@ public class CommentService {
                 .username(created.getUser().getUsername())
                 .createdDate(created.getCreatedDate())
                 .modifiedDate(created.getModifiedDate())
-                .likes(created.getLikes().size())
+                .likes(created.getLikeCount())
                 .build();
     }
 
     /**
      * 댓글 즐결찾기 증감 메서드
+     * 조건부 DELETE로 취소를 먼저 시도하고, 삭제된 행이 없을 때만 INSERT (중복 등록은 유니크 제약으로 막음)
      * @param user 현재 회원
      * @param commentId 댓글 ID
      * @return 현재 회원의 해당 댓글 즐겨찾기 여부
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public LikesResponse handleLikes(User user, Long commentId) {
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new IllegalArgumentException("해당 댓글이 존재하지 않습니다."));
-        Posts posts = comment.getPosts();
         // 이미 좋아요를 한 경우
-        if(commentLikesRepository.existsByUserAndComment(user, comment)) {
-            CommentLikes target = commentLikesRepository.findByUserAndComment(user, comment).orElseThrow(() -> new IllegalArgumentException("해당 댓글 또는 사용자가 존재하지 않습니다."));
-            commentLikesRepository.delete(target);
+        int deleted = commentLikesRepository.deleteLike(user.getId(), commentId);
+        if (deleted > 0) {
+            commentRepository.addLikeCount(commentId, -deleted);
 
             // 좋아요 제거했으므로
             return LikesResponse.builder()
@@ -101,12 +125,15 @@ public class CommentService {
                     .build();
         }
 
-        CommentLikes target = CommentLikes.builder()
-                .user(user)
-                .posts(posts)
-                .comment(comment)
-                .build();
-        commentLikesRepository.save(target);
+        try {
+            if (commentLikesRepository.insertLike(user.getId(), commentId) == 0) {
+                throw new IllegalArgumentException("해당 댓글이 존재하지 않습니다.");
+            }
+            commentRepository.addLikeCount(commentId, 1);
+        } catch (DuplicateKeyException e) {
+            // 동시에 들어온 같은 요청이 먼저 저장한 경우 - 이미 좋아요 상태
+            log.warn("User {} already liked comment {}", user.getId(), commentId);
+        }
 
         // 좋아요 저장 되었으므로
         return LikesResponse.builder()
@@ -127,6 +154,7 @@ public class CommentService {
         if(!user.getId().equals(target.getUser().getId())) throw new IllegalAccessException("다른 사용자의 댓글을 수정할 수 없습니다");
 
         if(StringUtils.hasText(dto.getContent())) target.setContent(dto.getContent());
+        searchIndex.indexComment(CommentDocument.of(target));
 
         target.setModifiedDate(LocalDateTime.now());
 
@@ -145,23 +173,62 @@ public class CommentService {
      * @return 필터링된 댓글 페이지 리스트
      */
     public Page<CommentIndexResponse> indexByUser(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
-        Specification<Comment> spec = CommentSearchSpec.search(user, searchField, searchTerm, tab);
+        Page<CommentCard> commentPage = findCards(user, pageable, searchField, searchTerm, tab);
 
-        Page<Comment> commentPage = commentRepository.findAll(spec, pageable);
+        // 페이지 단위로 좋아요 여부를 한 번에 조회
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, commentPage.map(CommentCard::getId).getContent());
 
-        return commentPage.map(item -> CommentIndexResponse.builder()
-                .id(item.getId())
-                .postId(item.getPosts().getId())
-                .postTitle(item.getPosts().getTitle())
-                .subject(item.getPosts().getSubject().getSubject())
-                .content(item.getContent())
-                .username(item.getUser().getUsername())
-                .modifiedDate(item.getModifiedDate())
-                .createdDate(item.getCreatedDate())
-                .commentNumber(item.getPosts().getCommentList().size())
-                .likes(item.getLikes().size())
-                .savedInLikes(commentLikesRepository.existsByUserAndComment(user, item))
-                .build());
+        return commentPage.map(item -> toIndexResponse(item, likedIds));
+    }
+
+    /**
+     * 자신의 댓글을 Slice 단위로 조회하는 메서드 (요청마다 COUNT 쿼리를 실행하지 않음)
+     * @param user 회원 정보
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 전체 개수(정확한 값 여부 포함)가 포함된 댓글 Slice
+     */
+    public SliceResponse<CommentIndexResponse> indexByUserSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        SliceResponse<CommentCard> cards = findCardSlice(user, pageable, searchField, searchTerm, tab);
+
+        // 페이지 단위로 좋아요 여부를 한 번에 조회
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, cards.getContent().stream().map(CommentCard::getId).toList());
+
+        return cards.map(item -> toIndexResponse(item, likedIds));
+    }
+
+    /**
+     * 자신의 댓글을 커서(id DESC) 기준으로 조회하는 메서드
+     * OFFSET과 COUNT 쿼리 없이 size + 1개만 조회한다
+     * @param user 회원 정보
+     * @param after 이전 페이지의 마지막 댓글 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 커서 기반 댓글 리스트
+     */
+    public CursorResponse<CommentIndexResponse> indexByUserAfter(User user, Long after, int size, String searchField, String searchTerm, Integer tab) {
+        // 내용 검색은 검색 인덱스에서 다음 페이지 확인용 1개를 포함해 ID만 조회
+        SearchHits hits = "내용".equals(searchField)
+                ? searchIndex.searchComments(searchTerm, user.getId(), tab, after, 0, size + 1)
+                : null;
+
+        List<CommentCard> comments;
+        if (hits != null) {
+            comments = findCardsByIds(hits.getIds());
+        } else {
+            Specification<Comment> spec = CommentSearchSpec.search(user, searchField, searchTerm, tab).and(CursorSpec.before(after));
+            comments = commentRepository.findCards(spec, CursorSpec.ID_DESC, size + 1);
+        }
+
+        // 페이지 단위로 좋아요 여부를 한 번에 조회
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, comments.stream().map(CommentCard::getId).toList());
+
+        List<CommentIndexResponse> responses = comments.stream().map(item -> toIndexResponse(item, likedIds)).toList();
+        return CursorResponse.of(responses, size, CommentIndexResponse::getId);
     }
 
     /**
@@ -175,7 +242,10 @@ public class CommentService {
         Comment target = commentRepository.findById(commentId).orElseThrow(() -> new IllegalArgumentException("해당 댓글이 존재하지 않습니다."));
         if(!user.getId().equals(target.getUser().getId()) || !user.getAuthority().equals(Role.ROLE_ADMIN)) throw new IllegalAccessException("다른 사용자의 댓글을 삭제할 수 없습니다");
 
-        commentRepository.delete(target);
+        bulkDeleteService.deleteComment(commentId);
+        postsRepository.addCommentCount(target.getPosts().getId(), -1);
+        searchIndex.deleteComment(commentId);
+        publicFeedCache.invalidate();
 
         return CommentDeleteResponse.builder()
                 .id(commentId)
@@ -205,8 +275,8 @@ public class CommentService {
                 .username(item.getUser().getUsername())
                 .modifiedDate(item.getComment().getModifiedDate())
                 .createdDate(item.getComment().getCreatedDate())
-                .commentNumber(item.getPosts().getCommentList().size())
-                .likes(item.getComment().getLikes().size())
+                .commentNumber(item.getPosts().getCommentCount())
+                .likes(item.getComment().getLikeCount())
                 .savedInLikes(true)
                 .build());
     }
@@ -262,4 +332,85 @@ public class CommentService {
                 .build();
         alertRepository.save(alert);
     }
-}
+
+    /**
+     * 자신의 댓글 카드 페이지 조회
+     * 최신순 내용 검색은 검색 인덱스에서 해당 페이지의 ID만 찾은 뒤 그 행만 조회하고,
+     * 인덱스로 처리할 수 없는 경우는 DB 검색 조건으로 조회
+     * @param user 회원 정보
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 댓글 카드 페이지
+     */
+    private Page<CommentCard> findCards(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        if ("내용".equals(searchField) && CursorSpec.ID_DESC.equals(pageable.getSort())) {
+            SearchHits hits = searchIndex.searchComments(searchTerm, user.getId(), tab, null, (int) pageable.getOffset(), pageable.getPageSize());
+            if (hits != null) {
+                return new PageImpl<>(findCardsByIds(hits.getIds()), pageable, hits.getTotal());
+            }
+        }
+
+        Specification<Comment> spec = CommentSearchSpec.search(user, searchField, searchTerm, tab);
+        return commentRepository.findCards(spec, pageable);
+    }
+
+    /**
+     * 댓글 카드 Slice 조회
+     * 검색 인덱스로 처리되는 내용 검색은 인덱스의 전체 건수를 사용하고, 그 외에는 개수 캐시를 사용
+     * @param user 작성자
+     * @param pageable 페이지 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색 단어
+     * @param tab 검색 탭
+     * @return 댓글 카드 Slice
+     */
+    private SliceResponse<CommentCard> findCardSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        if ("내용".equals(searchField) && CursorSpec.ID_DESC.equals(pageable.getSort())) {
+            SearchHits hits = searchIndex.searchComments(searchTerm, user.getId(), tab, null, (int) pageable.getOffset(), pageable.getPageSize());
+            if (hits != null) {
+                boolean hasNext = pageable.getOffset() + hits.getIds().size() < hits.getTotal();
+                Slice<CommentCard> slice = new SliceImpl<>(findCardsByIds(hits.getIds()), pageable, hasNext);
+                return SliceResponse.of(slice, hits.getTotal(), true);
+            }
+        }
+
+        Specification<Comment> spec = CommentSearchSpec.search(user, searchField, searchTerm, tab);
+        Slice<CommentCard> slice = commentRepository.findCardSlice(spec, pageable);
+        ListCountCache.CountKey key = new ListCountCache.CountKey("comment", user.getId(), tab, searchField, searchTerm);
+        return listCountCache.respond(slice, key, () -> commentRepository.count(spec));
+    }
+
+    /**
+     * 검색 인덱스에서 찾은 ID의 댓글 카드만 조회 (id DESC)
+     * @param ids 댓글 ID 목록
+     * @return 댓글 카드 목록
+     */
+    private List<CommentCard> findCardsByIds(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return commentRepository.findCards(CursorSpec.idIn(ids), CursorSpec.ID_DESC, ids.size());
+    }
+
+    /**
+     * 댓글 카드를 목록용 DTO로 변환
+     * @param item 변환할 댓글
+     * @param likedIds 현재 회원이 좋아요한 댓글 ID 집합
+     * @return 목록용 댓글 DTO
+     */
+    private CommentIndexResponse toIndexResponse(CommentCard item, Set<Long> likedIds) {
+        return CommentIndexResponse.builder()
+                .id(item.getId())
+                .postId(item.getPostsId())
+                .postTitle(item.getPostsTitle())
+                .subject(item.getPostsSubject().getSubject())
+                .content(item.getContent())
+                .username(item.getUsername())
+                .modifiedDate(item.getModifiedDate())
+                .createdDate(item.getCreatedDate())
+                .commentNumber(item.getPostsCommentCount())
+                .likes(item.getLikeCount())
+                .savedInLikes(likedIds.contains(item.getId()))
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.cache.CacheRegionStatsResponse;
+import com.example.backend.entity.ChatRoom;
+import com.example.backend.entity.User;
+import com.example.backend.service.utilities.TransactionUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 (회원, 채팅방, 채팅방 초대 회원, 회원명/이메일 쿼리) 무효화와 통계
+ * JdbcTemplate으로 직접 변경한 행은 Hibernate가 알지 못하므로 변경한 쪽에서 커밋 이후 해당 항목을 무효화한다
+ * (JPA 엔티티/JPQL로 변경한 경우는 Hibernate가 알아서 갱신)
+ * 무효화는 이 서버의 캐시에만 반영되므로 다중 서버 모드에서는 2차 캐시를 끈다 (SecondLevelCacheConfig, 무효화는 아무 일도 하지 않음)
+ */
+@Component
+public class EntityCache {
+
+    private static final String INVITED_USERS_ROLE = ChatRoom.class.getName() + ".invitedUsers";
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * 회원 무효화 (커밋 이후 반영)
+     * 회원명/이메일 쿼리 결과도 함께 비운다
+     * @param userId 회원 ID
+     */
+    public void evictUser(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(User.class, userId);
+            cache.evictDefaultQueryRegion();
+        });
+    }
+
+    /**
+     * 전체 회원 무효화 (커밋 이후 반영)
+     */
+    public void evictAllUsers() {
+        TransactionUtils.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(User.class);
+            cache.evictDefaultQueryRegion();
+        });
+    }
+
+    /**
+     * 채팅방과 초대 회원 목록 무효화 (커밋 이후 반영)
+     * @param roomIds 채팅방 ID 목록
+     */
+    public void evictChatRooms(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return;
+        TransactionUtils.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            roomIds.forEach(roomId -> {
+                cache.evictEntityData(ChatRoom.class, roomId);
+                cache.evictCollectionData(INVITED_USERS_ROLE, roomId);
+            });
+        });
+    }
+
+    /**
+     * 전체 채팅방과 초대 회원 목록 무효화 (커밋 이후 반영)
+     */
+    public void evictAllChatRooms() {
+        TransactionUtils.afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(ChatRoom.class);
+            cache.evictCollectionData(INVITED_USERS_ROLE);
+        });
+    }
+
+    /**
+     * 2차 캐시 영역별 적중률 (영역 크기 조정용)
+     * @return 영역 이름순 통계 목록
+     */
+    public List<CacheRegionStatsResponse> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsResponse> responses = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats != null) responses.add(toResponse(region, stats));
+        }
+        responses.sort(Comparator.comparing(CacheRegionStatsResponse::getRegion));
+        return responses;
+    }
+
+    private CacheRegionStatsResponse toResponse(String region, CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long elements = stats.getElementCountInMemory();
+        return CacheRegionStatsResponse.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(stats.getPutCount())
+                .hitRatio(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .elementCount(elements == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? null : elements)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.SliceResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Slice 목록 응답에 붙일 전체 개수 캐시 (목록 + 회원 + 탭 + 검색 조건 단위)
+ * 요청마다 같은 검색 조건으로 COUNT 쿼리를 실행하는 대신, 키별로 REFRESH 주기마다 한 번만 센다
+ *
+ * - 마지막 페이지를 조회하면 offset + 현재 개수가 곧 전체 개수이므로 COUNT 없이 정확한 값으로 갱신
+ * - 캐시에 없거나 만료된 키는 COUNT 쿼리를 한 번 실행해 정확한 값으로 저장
+ * - 그 외에는 캐시된 값을 추정값으로 반환 (현재 페이지로 확인된 최소 개수보다 작으면 보정)
+ */
+@Component
+public class ListCountCache {
+
+    private static final Duration REFRESH = Duration.ofMinutes(1);
+
+    private final Cache<CountKey, Long> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(REFRESH)
+            .build();
+
+    /**
+     * Slice 조회 결과에 전체 개수를 붙여 응답 생성
+     * @param slice 조회된 Slice
+     * @param key 개수 캐시 키
+     * @param counter 캐시 미스 시 실행할 COUNT 조회
+     * @return 전체 개수가 포함된 Slice 응답
+     */
+    public <T> SliceResponse<T> respond(Slice<T> slice, CountKey key, LongSupplier counter) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0L;
+        long known = offset + slice.getNumberOfElements();
+
+        // 마지막 페이지면 전체 개수가 확정됨 (빈 페이지는 offset이 전체 개수보다 클 수 있으므로 제외)
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            cache.put(key, known);
+            return SliceResponse.of(slice, known, true);
+        }
+
+        Long cached = cache.getIfPresent(key);
+        if (cached == null) {
+            long total = counter.getAsLong();
+            cache.put(key, total);
+            return SliceResponse.of(slice, total, true);
+        }
+
+        // 다음 페이지가 있으면 최소 known + 1개
+        long lowerBound = slice.hasNext() ? known + 1 : known;
+        return SliceResponse.of(slice, Math.max(cached, lowerBound), false);
+    }
+
+    /**
+     * 개수 캐시 키
+     * @param list 목록 종류 (예: posts, comment, alert)
+     * @param userId 대상 회원 ID (전체 목록이면 null)
+     * @param tab 주제별 탭
+     * @param searchField 검색 필드
+     * @param searchTerm 검색어
+     */
+    public record CountKey(String list, Long userId, Integer tab, String searchField, String searchTerm) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CursorResponse;
+import com.example.backend.dto.SliceResponse;
 import com.example.backend.dto.comment.CommentResponse;
 import com.example.backend.dto.likes.LikesResponse;
 import com.example.backend.dto.posts.create.PostsCreateRequest;
@@ -8,22 +10,37 @@ import com.example.backend.dto.posts.index.PostsIndexResponse;
 import com.example.backend.dto.posts.show.PostsShowResponse;
 import com.example.backend.dto.posts.update.PostsUpdateRequest;
 import com.example.backend.entity.*;
+import com.example.backend.entity.utilities.AlertSubject;
 import com.example.backend.entity.utilities.PostsSubject;
 import com.example.backend.repository.*;
+import com.example.backend.repository.projection.CommentCard;
+import com.example.backend.repository.projection.PostsCard;
+import com.example.backend.search.PostsDocument;
+import com.example.backend.search.SearchHits;
+import com.example.backend.search.SearchIndex;
+import com.example.backend.service.searchSpec.CommentSearchSpec;
+import com.example.backend.service.searchSpec.CursorSpec;
 import com.example.backend.service.searchSpec.PostLikesSpec;
 import com.example.backend.service.searchSpec.PostSearchSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static com.example.backend.entity.utilities.AlertSubject.*;
 import static com.example.backend.entity.utilities.PostsSubject.*;
 import static com.example.backend.entity.utilities.Role.ROLE_ADMIN;
 
@@ -32,13 +49,22 @@ import static com.example.backend.entity.utilities.Role.ROLE_ADMIN;
 @Service
 public class PostsService {
 
+    // 게시글 상세 조회 시 함께 내려주는 댓글 수
+    public static final int COMMENT_PAGE_SIZE = 20;
+
     private final PostsRepository repository;
     private final UserRepository userRepository; // 현재 코드에서 사용되지 않지만, 의존성 관리를 위해 유지
     private final PostsLikesRepository postsLikesRepository;
-    private final CommentLikesRepository commentLikesRepository;
-    private final PostsViewedRepository postsViewedRepository;
+    private final CommentRepository commentRepository;
     private final AlertRepository alertRepository;
     private final ChatRoomService chatRoomService;
+    private final SavedStatusService savedStatusService;
+    private final SearchIndex searchIndex;
+    private final PublicFeedCache publicFeedCache;
+    private final PostsViewCountBuffer viewCountBuffer;
+    private final TrendingPostsRanking trendingPostsRanking;
+    private final ListCountCache listCountCache;
+    private final BulkDeleteService bulkDeleteService;
 
     /**
      * 전체 게시글 목록을 검색 조건과 페이징 조건에 따라 조회합니다.
@@ -56,27 +82,69 @@ public class PostsService {
                                           String searchTerm,
                                           Integer tab) {
 
-        // 1. 검색 조건(Specification) 생성 (모든 사용자 게시글 대상)
-        Specification<Posts> spec = PostSearchSpec.search(null, searchField, searchTerm, tab);
+        // 비회원의 검색어 없는 앞쪽 페이지는 캐시 사용 (동시에 들어온 캐시 미스는 한 번만 조회)
+        if (publicFeedCache.isCacheable(user, pageable, searchTerm)) {
+            return publicFeedCache.get(tab, pageable, () -> loadIndex(null, pageable, searchField, searchTerm, tab));
+        }
 
-        // 2. 검색 조건(spec)과 페이징 조건(pageable)을 함께 Repository에 전달하여 조회
-        Page<Posts> postPage = repository.findAll(spec, pageable);
+        return loadIndex(user, pageable, searchField, searchTerm, tab);
+    }
 
-        // 3. 조회된 Page<Posts>를 Page<PostsIndexResponse>로 변환
-        return postPage.map(post -> PostsIndexResponse.builder()
-                .id(post.getId())
-                .subject(post.getSubject().getSubject())
-                .title(post.getTitle())
-                .username(post.getUser().getUsername())
-                .createdDate(post.getCreatedDate())
-                .modifiedDate(post.getModifiedDate())
-                .likes(post.getLikes().size())
-                .commentNumber(post.getCommentList().size())
-                // 현재 사용자의 게시글 좋아요 여부를 확인하여 포함
-                .savedInLikes(postsLikesRepository.existsByUserAndPosts(user, post))
-                .viewCount(post.getViewCount())
-                .savedInViews(postsViewedRepository.existsByUserAndPosts(user, post))
-                .build());
+    /**
+     * 전체 게시글 목록 조회 (캐시 미사용)
+     */
+    private Page<PostsIndexResponse> loadIndex(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+
+        // 1~2. 검색 조건과 페이징 조건으로 카드 컬럼만 조회 (모든 사용자 게시글 대상)
+        Page<PostsCard> postPage = findCards(null, pageable, searchField, searchTerm, tab);
+
+        // 3. 페이지 단위로 좋아요/조회 여부를 한 번에 조회
+        List<Long> postsIds = postPage.map(PostsCard::getId).getContent();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        // 4. 조회된 Page<PostsCard>를 Page<PostsIndexResponse>로 변환
+        return postPage.map(post -> toIndexResponse(post, likedIds, viewedIds));
+    }
+
+    /**
+     * 전체 게시글 목록을 커서(id DESC) 기준으로 조회합니다.
+     * OFFSET과 COUNT 쿼리 없이 size + 1개만 조회하여 다음 페이지 여부를 판단합니다.
+     *
+     * @param user 현재 로그인된 사용자 정보 (좋아요 여부 확인용)
+     * @param after 이전 페이지의 마지막 게시글 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param searchField 검색 필드 (예: title, content, username)
+     * @param searchTerm 검색어
+     * @param tab 주제별 탭 필터
+     * @return 커서 기반 게시글 목록 DTO
+     */
+    public CursorResponse<PostsIndexResponse> indexAfter(User user,
+                                                         Long after,
+                                                         int size,
+                                                         String searchField,
+                                                         String searchTerm,
+                                                         Integer tab) {
+
+        // 1. 검색 인덱스로 처리할 수 있는 검색이면 다음 페이지 확인용 1개를 포함해 ID만 조회
+        List<PostsCard> posts;
+        SearchHits hits = searchIndex.searchPosts(searchField, searchTerm, null, tab, after, 0, size + 1);
+        if (hits != null) {
+            posts = findCardsByIds(hits.getIds());
+        } else {
+            // 2. 검색 조건(Specification) + 커서 조건으로 size + 1개 조회 (COUNT 쿼리 없음)
+            Specification<Posts> spec = PostSearchSpec.search(null, searchField, searchTerm, tab).and(CursorSpec.before(after));
+            posts = repository.findCards(spec, CursorSpec.ID_DESC, size + 1);
+        }
+
+        // 3. 페이지 단위로 좋아요/조회 여부를 한 번에 조회
+        List<Long> postsIds = posts.stream().map(PostsCard::getId).toList();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        // 4. DTO 변환 후 커서 응답 생성
+        List<PostsIndexResponse> responses = posts.stream().map(post -> toIndexResponse(post, likedIds, viewedIds)).toList();
+        return CursorResponse.of(responses, size, PostsIndexResponse::getId);
     }
 
     /**
@@ -91,27 +159,82 @@ public class PostsService {
      */
     public Page<PostsIndexResponse> indexByUser(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
 
-        // 1. 검색 조건(Specification) 생성 (특정 사용자 게시글 대상)
-        Specification<Posts> spec = PostSearchSpec.search(user, searchField, searchTerm, tab);
+        // 1~2. 검색 조건과 페이징 조건으로 카드 컬럼만 조회 (특정 사용자 게시글 대상)
+        Page<PostsCard> postPage = findCards(user, pageable, searchField, searchTerm, tab);
 
-        // 2. 검색 조건(spec)과 페이징 조건(pageable)을 함께 Repository에 전달하여 조회
-        Page<Posts> postPage = repository.findAll(spec, pageable);
+        // 3. 페이지 단위로 좋아요/조회 여부를 한 번에 조회
+        List<Long> postsIds = postPage.map(PostsCard::getId).getContent();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
 
-        // 3. 조회된 Page<Posts>를 Page<PostsIndexResponse>로 변환
-        return postPage.map(post -> PostsIndexResponse.builder()
-                .id(post.getId())
-                .subject(post.getSubject().getSubject())
-                .title(post.getTitle())
-                .username(post.getUser().getUsername())
-                .createdDate(post.getCreatedDate())
-                .modifiedDate(post.getModifiedDate())
-                .likes(post.getLikes().size())
-                .commentNumber(post.getCommentList().size())
-                // 현재 사용자의 게시글 좋아요 여부를 확인하여 포함
-                .savedInLikes(postsLikesRepository.existsByUserAndPosts(user, post))
-                .viewCount(post.getViewCount())
-                .savedInViews(postsViewedRepository.existsByUserAndPosts(user, post))
-                .build());
+        // 4. 조회된 Page<PostsCard>를 Page<PostsIndexResponse>로 변환
+        return postPage.map(post -> toIndexResponse(post, likedIds, viewedIds));
+    }
+
+    /**
+     * 전체 게시글 목록을 Slice 단위로 조회합니다. (요청마다 COUNT 쿼리를 실행하지 않음)
+     * 전체 개수는 개수 캐시에서 가져오며, 정확한 값인지 여부를 응답에 함께 표시합니다.
+     *
+     * @param user 현재 로그인된 사용자 정보 (좋아요 여부 확인용)
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬)
+     * @param searchField 검색 필드
+     * @param searchTerm 검색어
+     * @param tab 주제별 탭 필터
+     * @return 전체 개수가 포함된 게시글 Slice DTO
+     */
+    public SliceResponse<PostsIndexResponse> indexSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        SliceResponse<PostsCard> cards = findCardSlice(null, pageable, searchField, searchTerm, tab);
+
+        List<Long> postsIds = cards.getContent().stream().map(PostsCard::getId).toList();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        return cards.map(post -> toIndexResponse(post, likedIds, viewedIds));
+    }
+
+    /**
+     * 특정 사용자의 게시글 목록을 Slice 단위로 조회합니다. (요청마다 COUNT 쿼리를 실행하지 않음)
+     *
+     * @param user 현재 로그인된 사용자 (좋아요 여부 확인 및 대상 사용자 지정)
+     * @param pageable 페이징 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색어
+     * @param tab 주제별 탭 필터
+     * @return 전체 개수가 포함된 해당 사용자의 게시글 Slice DTO
+     */
+    public SliceResponse<PostsIndexResponse> indexByUserSlice(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        SliceResponse<PostsCard> cards = findCardSlice(user, pageable, searchField, searchTerm, tab);
+
+        List<Long> postsIds = cards.getContent().stream().map(PostsCard::getId).toList();
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        return cards.map(post -> toIndexResponse(post, likedIds, viewedIds));
+    }
+
+    /**
+     * 인기 게시글 목록을 조회합니다. (좋아요/댓글/조회에 시간 감쇠를 적용한 점수 순)
+     * 게시글 전체를 다시 계산하지 않고, 이벤트마다 갱신되는 순위에서 상위 size개의 ID만 읽어 해당 카드만 조회합니다.
+     *
+     * @param user 현재 로그인된 사용자 정보 (비회원이면 null)
+     * @param size 조회할 개수
+     * @return 점수 순 게시글 목록 DTO
+     */
+    public List<PostsIndexResponse> trending(User user, int size) {
+        List<Long> ids = trendingPostsRanking.top(size);
+
+        // 순위 순서대로 응답하기 위해 ID 기준으로 카드 매핑 (그 사이 삭제된 게시글은 제외)
+        Map<Long, PostsCard> cards = findCardsByIds(ids).stream()
+                .collect(Collectors.toMap(PostsCard::getId, Function.identity()));
+
+        Set<Long> likedIds = savedStatusService.likedPostsIds(user, cards.keySet());
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, cards.keySet());
+
+        return ids.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(post -> toIndexResponse(post, likedIds, viewedIds))
+                .toList();
     }
 
     /**
@@ -127,62 +250,41 @@ public class PostsService {
     public Page<PostsIndexResponse> indexFavoriteByUser(User user, Pageable pageable, String searchField, String searchTerm, Integer tab) {
         Specification<PostsLikes> spec = PostLikesSpec.search(user, searchField, searchTerm, tab);
 
-        Page<PostsLikes> postsLikesPage = postsLikesRepository.findAll(spec, pageable);
-
-        return postsLikesPage.map(postsLikes -> PostsIndexResponse.builder()
-                .id(postsLikes.getPosts().getId())
-                .subject(postsLikes.getPosts().getSubject().getSubject())
-                .title(postsLikes.getPosts().getTitle())
-                .username(postsLikes.getPosts().getUser().getUsername())
-                .createdDate(postsLikes.getPosts().getCreatedDate())
-                .modifiedDate(postsLikes.getPosts().getModifiedDate())
-                .likes(postsLikes.getPosts().getLikes().size())
-                .commentNumber(postsLikes.getPosts().getCommentList().size())
-                // 현재 사용자의 게시글 좋아요 여부를 확인하여 포함
-                .savedInLikes(postsLikesRepository.existsByUserAndPosts(user, postsLikes.getPosts()))
-                .viewCount(postsLikes.getPosts().getViewCount())
-                .savedInViews(postsViewedRepository.existsByUserAndPosts(user, postsLikes.getPosts()))
-                .build());
+        Page<PostsCard> postsPage = postsLikesRepository.findPostsCards(spec, pageable);
+
+        // 즐겨찾기 목록이므로 좋아요 여부는 모두 true, 조회 여부만 한 번에 조회
+        List<Long> postsIds = postsPage.map(PostsCard::getId).getContent();
+        Set<Long> likedIds = new HashSet<>(postsIds);
+        Set<Long> viewedIds = savedStatusService.viewedPostsIds(user, postsIds);
+
+        return postsPage.map(post -> toIndexResponse(post, likedIds, viewedIds));
     }
 
     /**
      * 특정 게시글을 상세 조회하고, 조회수를 1 증가시킵니다.
+     * 조회수는 게시글 행을 잠그지 않도록 버퍼에 누적한 뒤 주기적으로 한 번에 반영하므로 읽기 전용 트랜잭션으로 조회합니다.
      *
      * @param user 현재 로그인된 사용자 정보 (좋아요 여부 확인용)
      * @param postsId 조회할 게시글 ID
      * @return 게시글 상세 정보 및 댓글 목록이 포함된 DTO
      * @throws IllegalArgumentException 해당 게시글이 존재하지 않을 경우
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostsShowResponse show(User user, Long postsId) {
-        Posts target = repository.findById(postsId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+        Posts target = repository.findDetailById(postsId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
 
-        // 조회수 증가
-        target.setViewCount(target.getViewCount() + 1);
+        // 조회수 증가 (버퍼에 누적, 응답에는 아직 반영되지 않은 증가분까지 포함)
+        long viewCount = target.getViewCount() + viewCountBuffer.increment(postsId);
+        trendingPostsRanking.record(postsId, TrendingPostsRanking.VIEW_WEIGHT);
 
-        // 댓글 목록을 DTO로 변환하고, 각 댓글의 좋아요 여부를 확인
-        List<CommentResponse> comments = target.getCommentList().stream().map(comment -> CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .username(comment.getUser().getUsername())
-                .likes(comment.getLikes().size())
-                .savedInLikes(commentLikesRepository.existsByUserAndComment(user, comment))
-                .createdDate(comment.getCreatedDate())
-                .modifiedDate(comment.getModifiedDate())
-                .build()).toList();
+        // 댓글은 첫 페이지만 조회 (나머지는 댓글 커서 조회로 이어서 요청)
+        CursorResponse<CommentResponse> comments = findCommentPage(user, target, null, COMMENT_PAGE_SIZE);
 
-        if(!postsViewedRepository.existsByUserAndPosts(user, target)) {
-            PostsViewed postsViewed = PostsViewed.builder()
-                    .user(user)
-                    .posts(target)
-                    .build();
-            postsViewedRepository.save(postsViewed);
-        }
-        // 알림 가져오기 - 알림 상태를 통해 게시글 신청 여부 표시 | user = 받은 사람
-        Alert alertToRecruitmentResult = alertRepository.findByPostsAndUserAndSenderAndSubject(target, target.getUser(), user, APPLICATION)
-                .orElse(alertRepository.findByPostsAndUserAndSubject(target, user, APPROVAL)
-                        .orElse(alertRepository.findByPostsAndUserAndSubject(target, user, REJECTED)
-                                .orElse(null)));
+        // 조회 여부 저장 (회원별 비트맵에 기록, DB에는 주기적으로 저장)
+        savedStatusService.markPostsViewed(user, postsId);
+
+        // 알림 상태를 통해 게시글 신청 여부 표시 (모집 게시글만)
+        AlertSubject recruitmentResult = findRecruitmentResult(user, target);
 
         // 게시글 상세 정보를 DTO로 빌드
         return PostsShowResponse.builder()
@@ -193,11 +295,14 @@ public class PostsService {
                 .username(target.getUser().getUsername())
                 .modifiedDate(target.getModifiedDate())
                 .createdDate(target.getCreatedDate())
-                .likes(target.getLikes().size())
+                .likes(target.getLikeCount())
                 // 현재 사용자의 게시글 좋아요 여부
                 .savedInLikes(postsLikesRepository.existsByUserAndPosts(user, target))
-                .viewCount(target.getViewCount())
-                .comments(comments)
+                .viewCount(viewCount)
+                .comments(comments.getContent())
+                .commentsHasNext(comments.isHasNext())
+                .commentsNextCursor(comments.getNextCursor())
+                .commentNumber(target.getCommentCount())
                 // 주제별 추가 정보 (모집, 질문)
                 .region(target.getRegion())
                 .meetingInfo(target.getMeetingInfo())
@@ -205,32 +310,49 @@ public class PostsService {
                 .currentUserNumber(target.getCurrentUserNumber() != null ? target.getCurrentUserNumber() : 0)
                 // 모임 신청 결과
                 // alert 상태로 표시
-                .recruitmentResult(alertToRecruitmentResult != null ? alertToRecruitmentResult.getSubject().getSubject() : null)
+                .recruitmentResult(recruitmentResult != null ? recruitmentResult.getSubject() : null)
                 .bookTitle(target.getBookTitle())
                 .pageNumber(target.getPageNumber())
                 .adoptedCommentId(target.getAdoptedComment() != null ? target.getAdoptedComment().getId() : null)
                 .build();
     }
 
+    /**
+     * 게시글의 댓글을 커서(id ASC) 기준으로 조회합니다.
+     * 채택된 댓글은 첫 페이지 맨 앞에 한 번만 포함되고, 이후 페이지에서는 제외됩니다.
+     *
+     * @param user 현재 로그인된 사용자 정보 (좋아요 여부 확인용)
+     * @param postsId 게시글 ID
+     * @param after 이전 페이지의 마지막 댓글 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 커서 기반 댓글 목록 DTO
+     * @throws IllegalArgumentException 해당 게시글이 존재하지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> indexComments(User user, Long postsId, Long after, int size) {
+        Posts target = repository.findById(postsId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+        return findCommentPage(user, target, after, size);
+    }
+
     /**
      * 게시글에 대한 좋아요 등록 및 취소 처리를 수행합니다.
      * 이미 좋아요 상태면 취소하고, 아니면 등록합니다.
+     * 조건부 DELETE를 먼저 실행해 삭제된 행이 없을 때만 INSERT 하므로 조회 없이 한두 문장으로 끝나고,
+     * 동시에 들어온 중복 등록은 (user_id, post_id) 유니크 제약으로 막아 이미 좋아요한 상태로 응답합니다.
+     * READ COMMITTED로 실행해 MariaDB에서 없는 행을 DELETE 할 때 갭 락이 잡혀 동시 INSERT끼리 교착되지 않도록 합니다.
      *
      * @param postsId 좋아요 처리할 게시글 ID
      * @param user 좋아요를 요청한 사용자
      * @return 좋아요 처리 결과 DTO (좋아요 등록/취소 여부 포함)
      * @throws IllegalArgumentException 해당 게시글이 존재하지 않을 경우
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public LikesResponse handleLikes(Long postsId, User user) {
-        Posts target = repository.findById(postsId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-
         // 좋아요 상태 확인: 이미 좋아요가 되어 있을 때 (좋아요 취소)
-        if(postsLikesRepository.existsByUserAndPosts(user, target)) {
-            log.warn("User {} already liked post {}", user.getId(), postsId);
-            PostsLikes removedTarget = postsLikesRepository.findByUserAndPosts(user, target)
-                    .orElseThrow(() -> new IllegalArgumentException("좋아요 정보가 존재하지 않습니다."));
-            postsLikesRepository.delete(removedTarget);
+        int deleted = postsLikesRepository.deleteLike(user.getId(), postsId);
+        if (deleted > 0) {
+            repository.addLikeCount(postsId, -deleted);
+            publicFeedCache.invalidate();
 
             // 좋아요를 취소했으므로 'savedInLikes'는 false
             return LikesResponse.builder()
@@ -239,11 +361,20 @@ public class PostsService {
         }
 
         // 좋아요 상태 확인: 좋아요가 되어있지 않았을 때 (좋아요 등록)
-        PostsLikes likes = PostsLikes.builder()
-                .user(user)
-                .posts(target)
-                .build();
-        postsLikesRepository.save(likes);
+        try {
+            if (postsLikesRepository.insertLike(user.getId(), postsId) == 0) {
+                throw new IllegalArgumentException("해당 게시글이 존재하지 않습니다.");
+            }
+        } catch (DuplicateKeyException e) {
+            // 동시에 들어온 같은 요청이 먼저 등록한 경우 - 이미 좋아요 상태이므로 그대로 응답
+            log.warn("User {} already liked post {}", user.getId(), postsId);
+            return LikesResponse.builder()
+                    .savedInLikes(true)
+                    .build();
+        }
+        repository.addLikeCount(postsId, 1);
+        publicFeedCache.invalidate();
+        trendingPostsRanking.record(postsId, TrendingPostsRanking.LIKE_WEIGHT);
 
         log.info("User {} successfully liked post {}", user.getId(), postsId);
         // 좋아요를 등록했으므로 'savedInLikes'는 true
@@ -283,6 +414,8 @@ public class PostsService {
                 .build();
 
         Posts saved = repository.save(target);
+        searchIndex.indexPosts(PostsDocument.of(saved));
+        publicFeedCache.invalidate();
 
         // 웹 소켓 생성
         if(saved.getSubject().equals(RECRUIT)) {
@@ -318,6 +451,8 @@ public class PostsService {
             default -> SHARE; // 기본값은 '공유'
         };
 
+        boolean subjectChanged = target.getSubject() != dtoSubjectToEnum;
+
         // 엔티티 필드 업데이트
         target.setSubject(dtoSubjectToEnum);
         target.setTitle(dto.getTitle());
@@ -335,6 +470,13 @@ public class PostsService {
                 throw new IllegalArgumentException("현재 모집된 인원수보다 최대 인원수가 더 적을 수 없습니다.");
             }
         }
+
+        searchIndex.indexPosts(PostsDocument.of(target));
+        publicFeedCache.invalidate();
+        // 댓글 색인에도 게시글 주제가 들어 있으므로 주제가 바뀌면 함께 갱신
+        if (subjectChanged) {
+            searchIndex.indexComments(commentRepository.findDocumentsByPostsId(postsId));
+        }
     }
 
     /**
@@ -355,11 +497,151 @@ public class PostsService {
         // 오류 발생 -> userDetails에서 가져온 user는 <비영속>, 데이터베이스에서 조회된 user는 <영속> 상태임
          if(!user.getId().equals(target.getUser().getId()) || !user.getAuthority().equals(ROLE_ADMIN)) throw new IllegalAccessException("다른 사용자의 글을 삭제할 수 없습니다.");
 
-        repository.delete(target);
+        // 댓글/좋아요/알림/신고/채팅방을 엔티티로 읽지 않고 테이블별 DELETE 한 문장씩으로 삭제
+        bulkDeleteService.deletePosts(deletedId);
+        searchIndex.deletePosts(deletedId);
+        publicFeedCache.invalidate();
+        trendingPostsRanking.remove(deletedId);
 
         // 삭제된 게시글 ID 반환
         return PostsDeleteResponse.builder()
                 .id(deletedId)
                 .build();
     }
+
+    /**
+     * 게시글 카드 페이지 조회
+     * 최신순 검색은 검색 인덱스에서 해당 페이지의 ID만 찾은 뒤 그 행만 조회하고,
+     * 인덱스로 처리할 수 없는 경우(검색어 없음, 1글자 검색어, 다른 정렬 등)는 DB 검색 조건으로 조회
+     * @param author 작성자 (전체 게시글이면 null)
+     * @param pageable 페이징 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색어
+     * @param tab 주제별 탭 필터
+     * @return 게시글 카드 페이지
+     */
+    private Page<PostsCard> findCards(User author, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        if (CursorSpec.ID_DESC.equals(pageable.getSort())) {
+            Long authorId = author != null ? author.getId() : null;
+            SearchHits hits = searchIndex.searchPosts(searchField, searchTerm, authorId, tab, null, (int) pageable.getOffset(), pageable.getPageSize());
+            if (hits != null) {
+                return new PageImpl<>(findCardsByIds(hits.getIds()), pageable, hits.getTotal());
+            }
+        }
+
+        Specification<Posts> spec = PostSearchSpec.search(author, searchField, searchTerm, tab);
+        return repository.findCards(spec, pageable);
+    }
+
+    /**
+     * 게시글 카드 Slice 조회
+     * 검색 인덱스로 처리되는 검색은 인덱스가 전체 건수를 함께 알려주므로 정확한 값을 사용하고,
+     * DB 검색 조건으로 조회하는 경우에는 size + 1개만 조회한 뒤 전체 개수는 개수 캐시에서 가져온다
+     * @param author 작성자 (전체 게시글이면 null)
+     * @param pageable 페이징 정보
+     * @param searchField 검색 필드
+     * @param searchTerm 검색어
+     * @param tab 주제별 탭 필터
+     * @return 게시글 카드 Slice
+     */
+    private SliceResponse<PostsCard> findCardSlice(User author, Pageable pageable, String searchField, String searchTerm, Integer tab) {
+        Long authorId = author != null ? author.getId() : null;
+
+        if (CursorSpec.ID_DESC.equals(pageable.getSort())) {
+            SearchHits hits = searchIndex.searchPosts(searchField, searchTerm, authorId, tab, null, (int) pageable.getOffset(), pageable.getPageSize());
+            if (hits != null) {
+                boolean hasNext = pageable.getOffset() + hits.getIds().size() < hits.getTotal();
+                Slice<PostsCard> slice = new SliceImpl<>(findCardsByIds(hits.getIds()), pageable, hasNext);
+                return SliceResponse.of(slice, hits.getTotal(), true);
+            }
+        }
+
+        Specification<Posts> spec = PostSearchSpec.search(author, searchField, searchTerm, tab);
+        Slice<PostsCard> slice = repository.findCardSlice(spec, pageable);
+        ListCountCache.CountKey key = new ListCountCache.CountKey("posts", authorId, tab, searchField, searchTerm);
+        return listCountCache.respond(slice, key, () -> repository.count(spec));
+    }
+
+    /**
+     * 검색 인덱스에서 찾은 ID의 게시글 카드만 조회 (id DESC)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 카드 목록
+     */
+    private List<PostsCard> findCardsByIds(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return repository.findCards(CursorSpec.idIn(ids), CursorSpec.ID_DESC, ids.size());
+    }
+
+    /**
+     * 모집 게시글에 대한 현재 회원의 신청 상태 조회
+     * 회원이 보낸 [신청] 알림 또는 회원이 받은 [승인]/[거절] 알림 중 가장 최근 것을 한 번의 쿼리로 찾는다
+     * @param user 현재 회원
+     * @param target 게시글
+     * @return 신청 상태 (모집 게시글이 아니거나 신청하지 않았으면 null)
+     */
+    private AlertSubject findRecruitmentResult(User user, Posts target) {
+        if (user == null || target.getSubject() != RECRUIT) return null;
+
+        return alertRepository.findRecruitmentSubjects(target.getId(), target.getUser().getId(), user.getId(), PageRequest.of(0, 1))
+                .stream().findFirst().orElse(null);
+    }
+
+    /**
+     * 게시글 댓글 한 페이지 조회 (카드 컬럼만 조회 + 좋아요 여부는 IN 쿼리 한 번)
+     * @param user 현재 회원
+     * @param target 게시글
+     * @param after 이전 페이지의 마지막 댓글 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 커서 기반 댓글 목록
+     */
+    private CursorResponse<CommentResponse> findCommentPage(User user, Posts target, Long after, int size) {
+        Long adoptedId = target.getAdoptedComment() != null ? target.getAdoptedComment().getId() : null;
+
+        // 채택된 댓글을 제외하고 다음 페이지 확인용 1개를 포함해 조회
+        Specification<Comment> spec = CommentSearchSpec.ofPosts(target.getId(), adoptedId).and(CursorSpec.after(after));
+        CursorResponse<CommentCard> page = CursorResponse.of(commentRepository.findCards(spec, CursorSpec.ID_ASC, size + 1), size, CommentCard::getId);
+
+        // 첫 페이지에는 채택된 댓글을 맨 앞에 포함
+        List<CommentCard> cards = new ArrayList<>(page.getContent());
+        if (after == null && adoptedId != null) {
+            cards.addAll(0, commentRepository.findCards(CursorSpec.idIn(List.of(adoptedId)), CursorSpec.ID_ASC, 1));
+        }
+
+        Set<Long> likedIds = savedStatusService.likedCommentIds(user, cards.stream().map(CommentCard::getId).toList());
+
+        page.setContent(cards);
+        return page.map(comment -> CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .username(comment.getUsername())
+                .likes(comment.getLikeCount())
+                .savedInLikes(likedIds.contains(comment.getId()))
+                .createdDate(comment.getCreatedDate())
+                .modifiedDate(comment.getModifiedDate())
+                .build());
+    }
+
+    /**
+     * 게시글 카드를 목록용 DTO로 변환
+     * @param post 변환할 게시글
+     * @param likedIds 현재 회원이 좋아요한 게시글 ID 집합
+     * @param viewedIds 현재 회원이 조회한 게시글 ID 집합
+     * @return 목록용 게시글 DTO
+     */
+    private PostsIndexResponse toIndexResponse(PostsCard post, Set<Long> likedIds, Set<Long> viewedIds) {
+        return PostsIndexResponse.builder()
+                .id(post.getId())
+                .subject(post.getSubject().getSubject())
+                .title(post.getTitle())
+                .username(post.getUsername())
+                .createdDate(post.getCreatedDate())
+                .modifiedDate(post.getModifiedDate())
+                .likes(post.getLikeCount())
+                .commentNumber(post.getCommentCount())
+                // 현재 사용자의 게시글 좋아요 여부
+                .savedInLikes(likedIds.contains(post.getId()))
+                .viewCount(post.getViewCount())
+                .savedInViews(viewedIds.contains(post.getId()))
+                .build();
+    }
 }
\ No newline at end of file
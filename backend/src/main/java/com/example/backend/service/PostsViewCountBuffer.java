@@ -0,0 +1,98 @@
+package com.example.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * 상세 조회마다 게시글 행을 잠그고 UPDATE 하는 대신, 게시글 ID별 LongAdder에 누적했다가
+ * 일정 주기마다 UPDATE posts SET view_count = view_count + ? 를 배치로 한 번에 실행한다
+ *
+ * - 증가는 잠금 없이 게시글의 누적기에 더하기만 한다 (인기 게시글의 동시 조회도 셀 단위로 나뉘어 경쟁하지 않음)
+ * - 누적기는 한 번 만들면 제거하지 않는다 (제거한 누적기를 조회 스레드가 들고 있다가 더하면 증가분이 유실됨)
+ *   서버 시작 이후 조회된 게시글 수만큼만 남고, 조회가 없는 주기에는 0이라 반영 대상에서 빠진다
+ * - sumThenReset은 셀 단위로 값을 꺼내므로 반영 도중 들어온 증가분은 다음 주기로 넘어간다
+ * - 종료 시 남은 증가분을 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostsViewCountBuffer {
+
+    private static final String UPDATE_SQL = "update posts set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (DB에는 다음 반영 주기에 기록)
+     * @param postsId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 해당 게시글의 증가분
+     */
+    public long increment(Long postsId) {
+        return add(postsId, 1L).sum();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회
+     * @param postsId 게시글 ID
+     * @return 반영 대기 중인 증가분
+     */
+    public long pendingOf(Long postsId) {
+        LongAdder adder = pending.get(postsId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 증가분을 배치 UPDATE로 반영
+     * 반영에 실패하면 증가분을 다시 버퍼에 돌려놓고 다음 주기에 재시도한다
+     */
+    @Scheduled(fixedDelayString = "${posts.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+
+        pending.forEach((postsId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) rows.add(new Object[]{delta, postsId});
+        });
+
+        if (rows.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            log.debug("조회수 반영: {}건", rows.size());
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: {}건", rows.size(), e);
+            rows.forEach(row -> add((Long) row[1], (Long) row[0]));
+        }
+    }
+
+    // 이미 있는 누적기는 잠금 없이 조회해 더함 (처음 조회된 게시글만 computeIfAbsent)
+    private LongAdder add(Long postsId, long delta) {
+        LongAdder adder = pending.get(postsId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postsId, id -> new LongAdder());
+        }
+        adder.add(delta);
+        return adder;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.PostsViewedBitmapRepository;
+import com.example.backend.service.utilities.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 조회한 게시글 비트맵 저장소
+ * 회원마다 조회한 게시글 ID를 Roaring 비트맵 하나로 들고 있어 한 페이지의 조회 여부를 DB 조회 없이 확인한다
+ *
+ * - 메모리에는 최근 사용한 회원의 비트맵만 MAX_USERS개까지 유지 (없으면 DB에서 읽어옴)
+ * - 조회 기록은 메모리 비트맵에 먼저 반영하고, 변경된 비트맵만 주기적으로 회원당 한 행으로 저장 (종료 시에도 저장)
+ * - 저장 전에 캐시에서 밀려난 비트맵은 저장 대기 목록에서 다시 읽으므로 기록이 사라지지 않는다
+ * - 기록은 캐시 항목을 잠근 채 반영하므로 기록 도중에 비트맵이 캐시에서 밀려나거나 DB에서 다시 읽히지 않는다
+ *   (DB 읽기는 잠금 밖에서 미리 하고, 잠금 안에서는 메모리 비트맵만 다룸)
+ * - 저장할 때 DB의 비트맵을 행 잠금으로 읽어 합친 뒤 저장하므로, 여러 서버(chat.cluster.enabled)에서
+ *   같은 회원의 기록을 저장해도 다른 서버의 기록을 덮어쓰지 않는다 (조회 기록은 추가만 되므로 합집합이 최신 값)
+ * - 비트맵은 스레드 안전하지 않으므로 비트맵 객체 단위로 동기화한다
+ */
+@Slf4j
+@Component
+public class PostsViewedStore {
+
+    private static final int MAX_USERS = 10_000;
+    // DB의 비트맵을 읽을 때 IN 절 하나에 넣는 회원 수
+    private static final int SELECT_BATCH = 500;
+
+    private static final String UPDATE_SQL = "update posts_viewed_bitmap set bitmap = ?, modified_date = ? where user_id = ?";
+    private static final String INSERT_SQL = "insert into posts_viewed_bitmap (user_id, bitmap, modified_date) values (?, ?, ?)";
+
+    private final PostsViewedBitmapRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 저장 대기 중인 비트맵 (회원 ID -> 비트맵)
+    private final Map<Long, Roaring64NavigableMap> dirty = new ConcurrentHashMap<>();
+    // 저장 중인 비트맵 (저장이 끝나기 전에 캐시에서 밀려나도 DB의 이전 값을 읽지 않도록 유지)
+    private final Map<Long, Roaring64NavigableMap> saving = new ConcurrentHashMap<>();
+
+    private final Cache<Long, Roaring64NavigableMap> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_USERS)
+            .build();
+
+    public PostsViewedStore(PostsViewedBitmapRepository repository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 회원이 조회한 게시글 ID 조회
+     * @param userId 회원 ID
+     * @param postsIds 확인할 게시글 ID 목록
+     * @return 조회한 게시글 ID 집합
+     */
+    public Set<Long> viewedIds(Long userId, Collection<Long> postsIds) {
+        Roaring64NavigableMap bitmap = cache.getIfPresent(userId);
+        if (bitmap == null) {
+            Roaring64NavigableMap loaded = load(userId);
+            bitmap = cache.asMap().computeIfAbsent(userId, id -> pendingOr(id, loaded));
+        }
+
+        Set<Long> viewed = new HashSet<>();
+        synchronized (bitmap) {
+            for (Long postsId : postsIds) {
+                if (bitmap.contains(postsId)) viewed.add(postsId);
+            }
+        }
+        return viewed;
+    }
+
+    /**
+     * 회원이 게시글을 조회했음을 기록 (DB에는 다음 저장 주기에 반영)
+     * @param userId 회원 ID
+     * @param postsId 조회한 게시글 ID
+     */
+    public void markViewed(Long userId, Long postsId) {
+        markViewedAll(userId, List.of(postsId));
+    }
+
+    /**
+     * 회원이 조회한 게시글 여러 개를 한 번에 기록
+     * @param userId 회원 ID
+     * @param postsIds 조회한 게시글 ID 목록
+     */
+    public void markViewedAll(Long userId, Collection<Long> postsIds) {
+        // DB 읽기는 캐시 잠금 밖에서 (같은 잠금 구역의 다른 회원이 DB 조회를 기다리지 않도록)
+        Roaring64NavigableMap cachedBefore = cache.getIfPresent(userId);
+        Roaring64NavigableMap loaded = cachedBefore != null ? cachedBefore : load(userId);
+
+        // 캐시 항목을 잠근 채 기록 - 그 사이에 밀려나서 저장까지 끝난 비트맵에 기록하면 다음 로딩 때 사라진다
+        cache.asMap().compute(userId, (id, cached) -> {
+            Roaring64NavigableMap bitmap = cached != null ? cached : pendingOr(id, loaded);
+
+            boolean changed = false;
+            synchronized (bitmap) {
+                for (Long postsId : postsIds) {
+                    if (!bitmap.contains(postsId)) {
+                        bitmap.addLong(postsId);
+                        changed = true;
+                    }
+                }
+            }
+            if (changed) {
+                dirty.put(id, bitmap);
+            }
+            return bitmap;
+        });
+    }
+
+    /**
+     * 탈퇴한 회원의 비트맵 삭제 (메모리에서는 커밋 이후 제거)
+     * @param userId 회원 ID
+     */
+    public void deleteUser(Long userId) {
+        repository.deleteById(userId);
+        TransactionUtils.afterCommit(() -> {
+            dirty.remove(userId);
+            cache.invalidate(userId);
+        });
+    }
+
+    /**
+     * 변경된 비트맵 저장 (DB의 비트맵과 합쳐서 한 트랜잭션으로 배치 저장)
+     * 저장에 실패한 비트맵은 다시 저장 대기 목록에 넣고 예외를 그대로 던진다
+     * (다른 서버와 동시에 같은 회원의 첫 행을 넣어 키가 중복된 경우도 다음 주기에 합쳐서 다시 저장)
+     */
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        Map<Long, Roaring64NavigableMap> batch = new HashMap<>();
+        for (Long userId : new ArrayList<>(dirty.keySet())) {
+            Roaring64NavigableMap bitmap = dirty.get(userId);
+            if (bitmap == null) continue;
+
+            // 저장 중 목록에 먼저 넣어야 그 사이에 로딩해도 DB의 이전 값을 읽지 않는다
+            saving.put(userId, bitmap);
+            dirty.remove(userId, bitmap);
+            batch.put(userId, bitmap);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            log.debug("조회 비트맵 저장: {}명", batch.size());
+        } catch (DataAccessException e) {
+            batch.forEach(dirty::putIfAbsent);
+            throw e;
+        } finally {
+            batch.forEach(saving::remove);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${posts.viewed.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (DataAccessException e) {
+            log.warn("조회 비트맵 저장 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 비트맵 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    /**
+     * 비트맵을 압축(run 인코딩 최적화) 후 직렬화
+     * @param bitmap 직렬화할 비트맵
+     * @return 직렬화된 값
+     */
+    public static byte[] serialize(Roaring64NavigableMap bitmap) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        synchronized (bitmap) {
+            bitmap.runOptimize();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                bitmap.serialize(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 직렬화된 값을 비트맵으로 복원
+     * @param bytes 직렬화된 값
+     * @return 비트맵
+     */
+    public static Roaring64NavigableMap deserialize(byte[] bytes) {
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            bitmap.deserialize(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bitmap;
+    }
+
+    /**
+     * DB의 비트맵을 행 잠금으로 읽어 합친 뒤 행이 있으면 update, 없으면 insert (각각 JDBC 배치)
+     */
+    private void write(Map<Long, Roaring64NavigableMap> batch) {
+        Map<Long, byte[]> stored = new HashMap<>();
+        List<Long> userIds = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < userIds.size(); from += SELECT_BATCH) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + SELECT_BATCH, userIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("select user_id, bitmap from posts_viewed_bitmap where user_id in (" + placeholders + ") for update",
+                    rs -> { stored.put(rs.getLong("user_id"), rs.getBytes("bitmap")); },
+                    chunk.toArray());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        batch.forEach((userId, bitmap) -> {
+            byte[] bytes = stored.get(userId);
+            if (bytes == null) {
+                inserts.add(new Object[]{userId, serialize(bitmap), now});
+                return;
+            }
+            // 다른 서버에서 저장한 기록을 이 서버의 비트맵에도 반영
+            Roaring64NavigableMap saved = deserialize(bytes);
+            synchronized (bitmap) {
+                bitmap.or(saved);
+            }
+            updates.add(new Object[]{serialize(bitmap), now, userId});
+        });
+
+        if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+    }
+
+    /**
+     * 캐시 미스 시 비트맵 로딩 (저장 대기 중이거나 저장 중인 비트맵이 있으면 그것을 사용, 캐시 잠금 밖에서 호출)
+     */
+    private Roaring64NavigableMap load(Long userId) {
+        Roaring64NavigableMap pending = pendingOr(userId, null);
+        if (pending != null) return pending;
+
+        return repository.findById(userId)
+                .map(entity -> deserialize(entity.getBitmap()))
+                .orElseGet(Roaring64NavigableMap::new);
+    }
+
+    /**
+     * 캐시 잠금 안에서 캐시에 넣을 비트맵 결정
+     * 미리 읽은 뒤 다른 스레드가 기록해 저장 대기/저장 중인 비트맵이 생겼으면 그것을 사용한다
+     * (미리 읽은 값이 그 사이 저장된 DB 값보다 오래되었어도 저장할 때 DB 값과 합치므로 기록은 사라지지 않음)
+     */
+    private Roaring64NavigableMap pendingOr(Long userId, Roaring64NavigableMap loaded) {
+        Roaring64NavigableMap pending = dirty.get(userId);
+        if (pending == null) pending = saving.get(userId);
+        return pending != null ? pending : loaded;
+    }
+}
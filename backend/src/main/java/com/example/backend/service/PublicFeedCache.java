@@ -0,0 +1,79 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.posts.index.PostsIndexResponse;
+import com.example.backend.entity.User;
+import com.example.backend.service.utilities.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비회원 게시글 목록(검색어 없는 앞쪽 페이지) 캐시
+ * 비회원 응답은 좋아요/조회 여부가 모두 false라 회원과 무관하게 공유할 수 있다
+ *
+ * - 같은 키의 캐시 미스가 동시에 들어오면 Caffeine이 한 번만 로딩하고 나머지는 결과를 기다린다
+ * - 게시글/댓글/좋아요 변경 시 커밋 이후 버전을 올려 무효화한다
+ *   (무효화 전에 시작된 로딩 결과는 이전 버전 키에 저장되므로 다시 조회되지 않음)
+ * - 조회수처럼 무효화하지 않는 값은 짧은 만료 시간으로 보정한다
+ */
+@Component
+public class PublicFeedCache {
+
+    // 캐시할 페이지 범위 (0 ~ MAX_PAGE - 1)
+    private static final int MAX_PAGE = 3;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<FeedKey, Page<PostsIndexResponse>> cache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(TTL)
+            .build();
+
+    /**
+     * 캐시 대상 요청인지 확인 (비회원 + 검색어 없음 + 앞쪽 페이지)
+     * @param user 현재 회원
+     * @param pageable 페이지 정보
+     * @param searchTerm 검색 단어
+     * @return 캐시 대상 여부
+     */
+    public boolean isCacheable(User user, Pageable pageable, String searchTerm) {
+        return user == null
+                && !StringUtils.hasText(searchTerm)
+                && pageable.isPaged()
+                && pageable.getPageNumber() < MAX_PAGE
+                && pageable.getPageSize() <= MAX_PAGE_SIZE;
+    }
+
+    /**
+     * 캐시된 페이지 조회, 없으면 한 번만 로딩해서 저장
+     * @param tab 주제별 탭
+     * @param pageable 페이지 정보 (정렬 포함)
+     * @param loader 캐시 미스 시 실행할 조회
+     * @return 게시글 페이지
+     */
+    public Page<PostsIndexResponse> get(Integer tab, Pageable pageable, Supplier<Page<PostsIndexResponse>> loader) {
+        FeedKey key = new FeedKey(version.get(), tab, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 캐시 무효화 (현재 트랜잭션 커밋 이후 반영)
+     */
+    public void invalidate() {
+        TransactionUtils.afterCommit(() -> {
+            version.incrementAndGet();
+            cache.invalidateAll();
+        });
+    }
+
+    private record FeedKey(long version, Integer tab, int page, int size, String sort) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.User;
+import com.example.backend.repository.CommentLikesRepository;
+import com.example.backend.repository.PostsLikesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 목록 조회 시 회원별 상태(좋아요 여부, 조회 여부)를 페이지 단위로 한 번에 조회하는 서비스
+ * 행마다 exists 쿼리를 실행하는 대신, 관계별로 IN 쿼리 한 번만 실행한다
+ * (게시글 조회 여부는 DB 대신 회원별 비트맵 저장소에서 확인)
+ */
+@RequiredArgsConstructor
+@Service
+public class SavedStatusService {
+
+    private final PostsLikesRepository postsLikesRepository;
+    private final PostsViewedStore postsViewedStore;
+    private final CommentLikesRepository commentLikesRepository;
+
+    /**
+     * 회원이 좋아요한 게시글 ID 조회
+     * @param user 현재 회원 (비회원이면 null)
+     * @param postsIds 페이지에 포함된 게시글 ID 목록
+     * @return 좋아요한 게시글 ID 집합
+     */
+    public Set<Long> likedPostsIds(User user, Collection<Long> postsIds) {
+        if (user == null || postsIds.isEmpty()) return Set.of();
+        return new HashSet<>(postsLikesRepository.findPostsIdsByUserAndPostsIdIn(user, postsIds));
+    }
+
+    /**
+     * 회원이 조회한 게시글 ID 조회
+     * @param user 현재 회원 (비회원이면 null)
+     * @param postsIds 페이지에 포함된 게시글 ID 목록
+     * @return 조회한 게시글 ID 집합
+     */
+    public Set<Long> viewedPostsIds(User user, Collection<Long> postsIds) {
+        if (user == null || postsIds.isEmpty()) return Set.of();
+        return postsViewedStore.viewedIds(user.getId(), postsIds);
+    }
+
+    /**
+     * 회원이 좋아요한 댓글 ID 조회
+     * @param user 현재 회원 (비회원이면 null)
+     * @param commentIds 페이지에 포함된 댓글 ID 목록
+     * @return 좋아요한 댓글 ID 집합
+     */
+    public Set<Long> likedCommentIds(User user, Collection<Long> commentIds) {
+        if (user == null || commentIds.isEmpty()) return Set.of();
+        return new HashSet<>(commentLikesRepository.findCommentIdsByUserAndCommentIdIn(user, commentIds));
+    }
+
+    /**
+     * 회원이 게시글을 조회했음을 저장 (이미 저장되어 있으면 무시)
+     * 메모리 비트맵에 먼저 기록하고 DB에는 주기적으로 저장하므로 읽기 전용 트랜잭션에서도 호출할 수 있다
+     * @param user 현재 회원 (비회원이면 저장하지 않음)
+     * @param postsId 조회한 게시글 ID
+     */
+    public void markPostsViewed(User user, Long postsId) {
+        if (user == null) return;
+        postsViewedStore.markViewed(user.getId(), postsId);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.backend.service;
 
 import com.example.backend.entity.User;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.security.TokenVersionStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,9 +18,10 @@ public class TempService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder encoder;
+    private final TokenVersionStore tokenVersionStore;
 
     /**
-     * 비밀번호 재성절 메서드
+     * 비밀번호 재성절 메서드 (권한이 바뀌므로 기존 토큰 무효화)
      * @param email 이메일 - 회원 조회용
      * @param password 새 비밀번호
      */
@@ -28,6 +30,7 @@ public class TempService {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
         user.setPassword(encoder.encode(password));
         user.setAuthority(ROLE_USER);
+        tokenVersionStore.revoke(user.getId());
         log.info("user: {}", user);
     }
 }
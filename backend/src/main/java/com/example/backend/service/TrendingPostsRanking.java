@@ -0,0 +1,176 @@
+package com.example.backend.service;
+
+import com.example.backend.service.utilities.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 시간 감쇠 인기 게시글 순위
+ * 좋아요/댓글/조회 이벤트가 들어올 때마다 해당 게시글 점수만 갱신하고, 상위 K개는 정렬된 집합의 앞에서 바로 읽는다
+ *
+ * - 점수 = Σ 가중치 * e^(-λ * 경과 시간) (반감기 HALF_LIFE)
+ * - 모든 점수를 같은 비율로 감쇠시키는 대신, 이벤트 시각 기준으로 e^(λ * t)를 곱해 더하면 순위가 시간에 따라 바뀌지 않으므로
+ *   기존 점수를 다시 계산할 필요가 없다 (값이 커지지 않도록 로그 값으로 저장)
+ * - 추적하는 게시글은 MAX_TRACKED개까지만 유지하고 점수가 가장 낮은 게시글부터 제외
+ * - 점수는 로그 값 그대로 주기적으로 파일에 저장하고 시작 시 복원한다 (경로가 비어 있으면 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class TrendingPostsRanking {
+
+    public static final double LIKE_WEIGHT = 3.0;
+    public static final double COMMENT_WEIGHT = 2.0;
+    public static final double VIEW_WEIGHT = 1.0;
+
+    private static final Duration HALF_LIFE = Duration.ofHours(12);
+    private static final double LAMBDA = Math.log(2) / HALF_LIFE.toSeconds();
+    private static final int MAX_TRACKED = 10_000;
+
+    private final String snapshotPath;
+
+    // 게시글 ID -> 현재 점수
+    private final ConcurrentHashMap<Long, Entry> scores = new ConcurrentHashMap<>();
+    // 점수 내림차순 (같으면 최신 게시글 우선)
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Entry::logScore).reversed().thenComparing(Comparator.comparingLong(Entry::postsId).reversed()));
+
+    /**
+     * @param snapshotPath 점수 저장 파일 경로 (비어 있으면 저장하지 않음)
+     */
+    public TrendingPostsRanking(@Value("${posts.trending.snapshot-path:}") String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * 게시글 이벤트 반영 (현재 트랜잭션이 있으면 커밋 이후 반영)
+     * @param postsId 게시글 ID
+     * @param weight 이벤트 가중치
+     */
+    public void record(Long postsId, double weight) {
+        TransactionUtils.afterCommit(() -> add(postsId, weight, System.currentTimeMillis()));
+    }
+
+    /**
+     * 삭제된 게시글 제외 (커밋 이후 반영)
+     * @param postsId 게시글 ID
+     */
+    public void remove(Long postsId) {
+        TransactionUtils.afterCommit(() -> scores.computeIfPresent(postsId, (id, old) -> {
+            ranking.remove(old);
+            return null;
+        }));
+    }
+
+    /**
+     * 점수 상위 게시글 ID 조회 (정렬된 집합의 앞에서 size개만 읽음)
+     * @param size 조회할 개수
+     * @return 점수 내림차순 게시글 ID 목록
+     */
+    public List<Long> top(int size) {
+        List<Long> ids = new ArrayList<>(size);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (ids.size() < size && iterator.hasNext()) {
+            ids.add(iterator.next().postsId());
+        }
+        return ids;
+    }
+
+    /**
+     * 점수 반영 - 로그 공간에서 log(e^a + e^b)로 더한다
+     */
+    void add(Long postsId, double weight, long epochMillis) {
+        double logDelta = Math.log(weight) + LAMBDA * (epochMillis / 1000.0);
+
+        scores.compute(postsId, (id, old) -> {
+            Entry next = new Entry(id, old == null ? logDelta : logAddExp(old.logScore(), logDelta));
+            if (old != null) ranking.remove(old);
+            ranking.add(next);
+            return next;
+        });
+
+        // 추적 개수를 넘으면 점수가 가장 낮은 게시글부터 제외
+        while (scores.size() > MAX_TRACKED) {
+            Entry lowest = ranking.pollLast();
+            if (lowest == null) break;
+            scores.remove(lowest.postsId(), lowest);
+        }
+    }
+
+    @PostConstruct
+    void restore() {
+        if (!StringUtils.hasText(snapshotPath) || !Files.exists(Path.of(snapshotPath))) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(snapshotPath))))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readLong(), in.readDouble());
+                scores.put(entry.postsId(), entry);
+                ranking.add(entry);
+            }
+            log.info("인기 게시글 점수 복원: {}건", count);
+        } catch (IOException e) {
+            log.warn("인기 게시글 점수 복원 실패, 빈 상태로 시작: {}", snapshotPath, e);
+            scores.clear();
+            ranking.clear();
+        }
+    }
+
+    /**
+     * 점수를 임시 파일에 기록한 뒤 교체 (기록 도중 종료되어도 이전 파일은 유지)
+     */
+    @Scheduled(fixedDelayString = "${posts.trending.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (!StringUtils.hasText(snapshotPath)) return;
+
+        Path target = Path.of(snapshotPath);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        List<Entry> entries = new ArrayList<>(scores.values());
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeLong(entry.postsId());
+                out.writeDouble(entry.logScore());
+            }
+        } catch (IOException e) {
+            log.warn("인기 게시글 점수 저장 실패: {}", snapshotPath, e);
+            return;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("인기 게시글 점수 파일 교체 실패: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private record Entry(long postsId, double logScore) {
+    }
+}
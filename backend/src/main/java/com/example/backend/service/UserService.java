@@ -11,10 +11,11 @@ import com.example.backend.dto.auth.signup.SignupRequest;
 import com.example.backend.dto.auth.signup.SignupResponse;
 import com.example.backend.dto.auth.verify.VerifyCodeRequest;
 import com.example.backend.dto.user.ChangeUserInfoRequest;
-import com.example.backend.entity.ChatRoom;
 import com.example.backend.entity.User;
 import com.example.backend.repository.ChatRoomRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.search.SearchIndex;
+import com.example.backend.security.TokenVersionStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -23,7 +24,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.example.backend.entity.utilities.Role.ROLE_TEMP;
@@ -36,8 +36,13 @@ public class UserService {
 
     private final UserRepository repository;
     private final PasswordEncoder encoder;
-    private final ChatRoomService chatRoomService;
     private final ChatRoomRepository chatRoomRepository;
+    private final SearchIndex searchIndex;
+    private final PublicFeedCache publicFeedCache;
+    private final PostsViewedStore postsViewedStore;
+    private final BulkDeleteService bulkDeleteService;
+    private final TrendingPostsRanking trendingPostsRanking;
+    private final TokenVersionStore tokenVersionStore;
 
     /**
      * 회원가입 요청을 처리하는 메소드.
@@ -107,36 +112,39 @@ public class UserService {
 
     /**
      * 회원 정보 수정 메서드
-     * @param user 수정할 회원
+     * 회원명이 토큰에 담겨 있으므로 기존 토큰은 무효화한다 (새 토큰은 컨트롤러에서 발급)
+     * @param user 수정할 회원 (토큰 claim으로 만든 객체 - ID만 사용)
      * @param dto 수정할 회원 정보
+     * @return 수정된 회원
      */
     @Transactional
-    public void changeUserInfo(User user, ChangeUserInfoRequest dto) {
-        if(StringUtils.hasText(dto.getUsername())) user.setUsername(dto.getUsername());
-        if(StringUtils.hasText(dto.getPassword())) user.setPassword(encoder.encode(dto.getPassword()));
-        log.info("new password: {}", user.getPassword());
-
-        repository.save(user);
+    public User changeUserInfo(User user, ChangeUserInfoRequest dto) {
+        User target = repository.findById(user.getId()).orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
+        if(StringUtils.hasText(dto.getUsername())) target.setUsername(dto.getUsername());
+        if(StringUtils.hasText(dto.getPassword())) target.setPassword(encoder.encode(dto.getPassword()));
+        log.info("new password: {}", target.getPassword());
+
+        tokenVersionStore.revoke(target.getId());
+        return target;
     }
 
     /**
      * 회원 탈퇴
+     * 회원의 게시글/댓글을 일정 개수씩 나눠 배치마다 별도 트랜잭션으로 삭제하므로 트랜잭션 없이 실행한다
+     * (초대된 채팅방의 인원수 보정도 일괄 삭제에서 함께 처리)
      * @param userId: 탈퇴할 회원 ID
      */
-    @Transactional
     public void deleteUser(Long userId) {
-        User target = repository.findById(userId).orElseThrow(() -> new IllegalArgumentException("해당 회원이 존재하지 않습니다."));
-
-        log.info("target.getInvitedUsersInChatRooms(): {}", target.getInvitedUsersInChatRooms());
-        List<ChatRoom> roomsSnapshot = new ArrayList<>(target.getInvitedUsersInChatRooms());
-        log.info("roomsSnapshot: {}", roomsSnapshot);
-
-        for (ChatRoom chatRoom : roomsSnapshot) {
-            List<Long> removeUserIds = List.of(target.getId());
-            chatRoomService.removeUser(chatRoom.getId(), removeUserIds);
-        }
-
-        repository.delete(target);
+        if (!repository.existsById(userId)) throw new IllegalArgumentException("해당 회원이 존재하지 않습니다.");
+
+        List<Long> deletedPostsIds = bulkDeleteService.deleteUser(userId);
+        // 탈퇴한 회원의 토큰 무효화
+        tokenVersionStore.revoke(userId);
+        searchIndex.deleteByUser(userId);
+        postsViewedStore.deleteUser(userId);
+        deletedPostsIds.forEach(trendingPostsRanking::remove);
+        // 탈퇴한 회원의 게시글이 목록에서 사라지므로 무효화
+        publicFeedCache.invalidate();
     }
 
     /**
@@ -152,11 +160,14 @@ public class UserService {
 
     /**
      * 회원 권한 TEMP로 설정
+     * 권한이 토큰에 담겨 있으므로 기존 토큰은 무효화한다
      * @param dto 회원 이메일
      */
+    @Transactional
     public void createTempUser(VerifyCodeRequest dto) {
         User user = repository.findByEmail(dto.getEmail()).orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
         user.setAuthority(ROLE_TEMP);
+        tokenVersionStore.revoke(user.getId());
         log.info("temp user: {}", user);
     }
 }
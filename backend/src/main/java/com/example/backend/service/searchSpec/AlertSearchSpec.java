@@ -3,6 +3,7 @@ package com.example.backend.service.searchSpec;
 import com.example.backend.entity.Alert;
 import com.example.backend.entity.User;
 import com.example.backend.entity.utilities.AlertSubject;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
@@ -32,20 +33,15 @@ public class AlertSearchSpec {
 
         return ((root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            String clearSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase();
-            String pattern = "%" + clearSearchTerm.toLowerCase() + "%";
+            String clearSearchTerm = SearchNormalizeListener.normalize(searchTerm);
+            String pattern = "%" + clearSearchTerm + "%";
 
             predicates.add(builder.equal(root.get("user"), user));
 
             if(StringUtils.hasText(searchTerm)) {
                 if ("제목".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("posts").get("title")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(title_norm)과 직접 비교
+                    predicates.add(builder.like(root.get("posts").get("titleNorm"), pattern));
                 } else if ("내용".equals(searchField)) {
                     // 1. CLOB 타입인 content 필드를 빈 문자열과 연결(CONCAT)하여
                     //    Hibernate가 이 Expression을 STRING 타입으로 처리하도록 강제합니다.
@@ -63,13 +59,8 @@ public class AlertSearchSpec {
                     );
                     predicates.add(builder.like(nonSpacedLowerTitle, pattern));
                 } else if ("작성자".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("sender").get("username")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                    predicates.add(builder.like(root.get("sender").get("usernameNorm"), clearSearchTerm + "%"));
                 }
             }
                 if (tab != null && tab > 0) {
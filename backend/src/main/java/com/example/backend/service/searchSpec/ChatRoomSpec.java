@@ -2,7 +2,7 @@ package com.example.backend.service.searchSpec;
 
 import com.example.backend.entity.ChatRoom;
 import com.example.backend.entity.User;
-import jakarta.persistence.criteria.Expression;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -32,8 +32,8 @@ public class ChatRoomSpec {
         // 검색어가 있으면 동적 조건 생성
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            String cleanSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase(); // 공백 제거
-            String pattern = "%" + cleanSearchTerm.toLowerCase() + "%"; // Like 검색 패턴
+            String cleanSearchTerm = SearchNormalizeListener.normalize(searchTerm); // 공백 제거 + 소문자 (정규화 컬럼과 같은 방식)
+            String pattern = "%" + cleanSearchTerm + "%"; // Like 검색 패턴
 
             if (user != null) {
                 // 관리자이거나
@@ -51,32 +51,17 @@ public class ChatRoomSpec {
             // 공백 제거
             if (StringUtils.hasText(cleanSearchTerm)) {
                 if ("커뮤니티".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("roomName")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(room_name_norm)과 직접 비교
+                    predicates.add(builder.like(root.get("roomNameNorm"), pattern));
                 } else if ("관리자".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("creator").get("username")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                    predicates.add(builder.like(root.get("creator").get("usernameNorm"), cleanSearchTerm + "%"));
                 } else if ("참가자".equals(searchField)) {
 
                     Join<ChatRoom, User> invitedUserJoin = root.join("invitedUsers", JoinType.LEFT);
 
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(invitedUserJoin.get("username")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                    predicates.add(builder.like(invitedUserJoin.get("usernameNorm"), cleanSearchTerm + "%"));
                 }
             }
 
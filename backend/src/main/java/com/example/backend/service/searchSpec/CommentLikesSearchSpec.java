@@ -3,6 +3,7 @@ package com.example.backend.service.searchSpec;
 import com.example.backend.entity.CommentLikes;
 import com.example.backend.entity.User;
 import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
@@ -33,8 +34,8 @@ public class CommentLikesSearchSpec {
         // 검색어가 있으면 동적 조건 생성
         return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            String cleanSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase(); // 공백 제거
-            String pattern = "%" + cleanSearchTerm.toLowerCase() + "%"; // Like 검색 패턴
+            String cleanSearchTerm = SearchNormalizeListener.normalize(searchTerm); // 공백 제거 + 소문자 (정규화 컬럼과 같은 방식)
+            String pattern = "%" + cleanSearchTerm + "%"; // Like 검색 패턴
 
             if (user != null) {
                 predicates.add(builder.equal(root.get("user"), user));
@@ -60,21 +61,11 @@ public class CommentLikesSearchSpec {
                     );
                     predicates.add(builder.like(nonSpacedLowerTitle, pattern));
                 } else if("제목".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("posts").get("title")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(title_norm)과 직접 비교
+                    predicates.add(builder.like(root.get("posts").get("titleNorm"), pattern));
                 } else if ("작성자".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("user").get("username")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                    predicates.add(builder.like(root.get("user").get("usernameNorm"), cleanSearchTerm + "%"));
                 }
             }
 
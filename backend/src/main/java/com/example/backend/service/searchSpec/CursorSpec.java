@@ -0,0 +1,58 @@
+package com.example.backend.service.searchSpec;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+
+public class CursorSpec {
+
+    // 커서 모드는 기본키(id DESC) 기준으로만 탐색한다
+    public static final Sort ID_DESC = Sort.by(Sort.Direction.DESC, "id");
+    // 오래된 순서로 읽는 목록(게시글 댓글)은 id ASC 기준으로 탐색한다
+    public static final Sort ID_ASC = Sort.by(Sort.Direction.ASC, "id");
+
+    /**
+     * 커서 조건 생성 메서드 (id < after)
+     * OFFSET 없이 기본키 인덱스에서 바로 탐색을 시작한다
+     * @param after 이전 페이지의 마지막 ID (첫 페이지면 null)
+     * @return 검색 조건
+     */
+    public static <T> Specification<T> before(Long after) {
+        return (root, query, builder) -> after == null ? null : builder.lessThan(root.get("id"), after);
+    }
+
+    /**
+     * 오름차순 커서 조건 생성 메서드 (id > after)
+     * @param after 이전 페이지의 마지막 ID (첫 페이지면 null)
+     * @return 검색 조건
+     */
+    public static <T> Specification<T> after(Long after) {
+        return (root, query, builder) -> after == null ? null : builder.greaterThan(root.get("id"), after);
+    }
+
+    /**
+     * ID 목록 조건 생성 메서드 (id IN (...))
+     * 검색 인덱스에서 찾은 ID의 행만 조회할 때 사용
+     * @param ids 조회할 ID 목록
+     * @return 검색 조건
+     */
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        return (root, query, builder) -> root.get("id").in(ids);
+    }
+
+    /**
+     * 커서 문자열을 ID로 변환하는 메서드
+     * @param after 요청 파라미터로 받은 커서 (빈 문자열이면 첫 페이지)
+     * @return 커서 ID (첫 페이지면 null)
+     */
+    public static Long parse(String after) {
+        if (!StringUtils.hasText(after)) return null;
+        try {
+            return Long.valueOf(after);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.service.searchSpec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+@Slf4j
+public class PostsSortSpec {
+
+    /**
+     * 게시글 정렬 조건 생성 메서드
+     * 좋아요순, 댓글순, 조회순은 카운터 컬럼 인덱스(count, id)를 그대로 사용한다
+     * @param pageable 페이지 정보
+     * @param sortBy 정렬 기준 (좋아요, 댓글, 조회 | 그 외에는 요청한 정렬 유지)
+     * @return 정렬 조건이 적용된 페이지 정보
+     */
+    public static Pageable apply(Pageable pageable, String sortBy) {
+        log.info("sortBy: {}", sortBy);
+
+        Sort sort = switch (sortBy) {
+            case "좋아요" -> Sort.by(DESC, "likeCount", "id");
+            case "댓글" -> Sort.by(DESC, "commentCount", "id");
+            case "조회" -> Sort.by(DESC, "viewCount", "id");
+            default -> pageable.getSort();
+        };
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
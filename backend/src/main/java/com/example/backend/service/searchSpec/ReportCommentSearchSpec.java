@@ -2,6 +2,7 @@ package com.example.backend.service.searchSpec;
 
 import com.example.backend.entity.Report;
 import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
@@ -24,8 +25,8 @@ public class ReportCommentSearchSpec {
     public static Specification<Report> search(String searchField, String searchTerm, Integer tab) {
         return ((root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            String cleanSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase(); // 공백 제거
-            String pattern = "%" + cleanSearchTerm.toLowerCase() + "%"; // Like 검색 패턴
+            String cleanSearchTerm = SearchNormalizeListener.normalize(searchTerm); // 공백 제거 + 소문자 (정규화 컬럼과 같은 방식)
+            String pattern = "%" + cleanSearchTerm + "%"; // Like 검색 패턴
 
             predicates.add(builder.isNotNull(root.get("comment")));
 
@@ -47,21 +48,11 @@ public class ReportCommentSearchSpec {
                     );
                     predicates.add(builder.like(nonSpacedLowerTitle, pattern));
                 } else if ("제목".equals(searchField)) {
-                    Expression<String> nonSpacedLowerTitle = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("comment").get("posts").get("title")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(nonSpacedLowerTitle, pattern));
+                    // 정규화 컬럼(title_norm)과 직접 비교
+                    predicates.add(builder.like(root.get("comment").get("posts").get("titleNorm"), pattern));
                 } else if ("작성자".equals(searchField)) {
-                    Expression<String> stringWriter = builder.function(
-                            "REPLACE", String.class,
-                            builder.lower(root.get("comment").get("user").get("username")),
-                            builder.literal(" "),
-                            builder.literal("")
-                    );
-                    predicates.add(builder.like(stringWriter, pattern));
+                    // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                    predicates.add(builder.like(root.get("comment").get("user").get("usernameNorm"), cleanSearchTerm + "%"));
                 }
             }
             if (tab != null && tab > 0) {
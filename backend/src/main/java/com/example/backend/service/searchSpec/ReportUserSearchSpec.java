@@ -1,6 +1,7 @@
 package com.example.backend.service.searchSpec;
 
 import com.example.backend.entity.User;
+import com.example.backend.entity.utilities.SearchNormalizeListener;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
@@ -26,18 +27,13 @@ public class ReportUserSearchSpec {
 
         return ((root, query, builder) -> {
         List<Predicate> predicates = new ArrayList<>();
-        String cleanSearchTerm = searchTerm.replaceAll("\\s", "").toLowerCase();
+        String cleanSearchTerm = SearchNormalizeListener.normalize(searchTerm);
         String pattern = "%" + cleanSearchTerm + "%";
 
         if(StringUtils.hasText(searchTerm)) {
             if("회원명".equals(searchField)) {
-                Expression<String> nonSpaceLowerUsername = builder.function(
-                        "REPLACE", String.class,
-                        builder.lower(root.get("username")),
-                        builder.literal(" "),
-                        builder.literal("")
-                );
-                predicates.add(builder.like(nonSpaceLowerUsername, pattern));
+                // 정규화 컬럼(username_norm) 접두사 검색 - 인덱스 범위 스캔
+                predicates.add(builder.like(root.get("usernameNorm"), cleanSearchTerm + "%"));
             } else if("이메일".equals(searchField)) {
                 Expression<String> nonSpaceLowerEmail = builder.function(
                         "REPLACE", String.class,
@@ -0,0 +1,239 @@
+package com.example.backend.socket;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서버에서 채팅방 메시지/접속자 공유 (chat.cluster.enabled)
+ * 꺼져 있으면 이 서버의 ChatSessionRegistry만 사용한다 (단일 서버)
+ *
+ * - 메시지: 채팅방마다 Redis 채널("chat:room:" + 채팅방 ID)에 발행하고,
+ *   각 서버는 자기 서버에 세션이 있는 채팅방 채널만 구독해 자기 서버의 세션에만 전송한다
+ *   (보낸 서버도 구독으로 받아서 전송하므로 모든 서버의 전송 순서가 같다,
+ *   받은 메시지는 리스너 스레드 하나에서 받은 순서대로 전송한다)
+ * - 접속자: 채팅방마다 Redis 정렬 집합("chat:presence:" + 채팅방 ID)에 회원명과 마지막 갱신 시각을 저장한다
+ *   heartbeat-interval-ms마다 이 서버의 접속자를 갱신하고, presence-ttl-ms 동안 갱신되지 않은 회원은
+ *   접속하지 않은 것으로 본다 (서버가 비정상 종료되어도 TTL 뒤에 정리됨)
+ * - 같은 회원이 여러 서버에 접속한 상태에서 한 서버에서 나가면 잠시 접속 해제로 보일 수 있으며,
+ *   다른 서버의 다음 갱신 때 다시 반영된다
+ */
+@Slf4j
+@Component
+public class ChatClusterBroker {
+
+    // Redis 채널: "chat:room:" + 채팅방 ID
+    private static final String CHANNEL_PREFIX = "chat:room:";
+    // Redis key: "chat:presence:" + 채팅방 ID (회원명 -> 마지막 갱신 시각(밀리초))
+    private static final String PRESENCE_PREFIX = "chat:presence:";
+
+    private final ChatSessionRegistry sessionRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long presenceTtlMs;
+
+    // 채팅방 ID -> 구독중인 채널 리스너 (이 서버에 세션이 있는 채팅방만)
+    private final ConcurrentHashMap<Long, MessageListener> subscriptions = new ConcurrentHashMap<>();
+    private RedisMessageListenerContainer container;
+    // 받은 메시지 전송 스레드 (하나만 사용해 Redis에서 받은 순서를 유지)
+    private ExecutorService listenerExecutor;
+
+    /**
+     * @param enabled 다중 서버 모드 사용 여부
+     * @param presenceTtlMs 접속자 갱신이 없을 때 접속 해제로 보는 시간 (밀리초, 갱신 주기보다 길어야 함)
+     */
+    public ChatClusterBroker(ChatSessionRegistry sessionRegistry,
+                             StringRedisTemplate redisTemplate,
+                             @Value("${chat.cluster.enabled:false}") boolean enabled,
+                             @Value("${chat.cluster.presence-ttl-ms:30000}") long presenceTtlMs) {
+        this.sessionRegistry = sessionRegistry;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.presenceTtlMs = presenceTtlMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        // 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 새 스레드에서 전송하므로 순서가 바뀔 수 있음
+        listenerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-cluster-listener");
+            thread.setDaemon(true);
+            return thread;
+        });
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        container.setTaskExecutor(listenerExecutor);
+        container.afterPropertiesSet();
+        container.start();
+        log.info("채팅 다중 서버 모드: presenceTtl={}ms", presenceTtlMs);
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        if (container == null) return;
+
+        // 이 서버의 접속자는 다른 서버에서 바로 접속 해제로 보이도록 제거
+        sessionRegistry.connectedUsers().forEach((roomId, usernames) -> {
+            try {
+                redisTemplate.opsForZSet().remove(presenceKey(roomId), usernames.toArray());
+            } catch (DataAccessException e) {
+                log.debug("채팅 접속자 제거 실패: roomId={}", roomId, e);
+            }
+        });
+        container.destroy();
+        listenerExecutor.shutdown();
+        if (!listenerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            listenerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 세션 등록 후 호출 - 채팅방 채널 구독, 접속자 등록
+     * @param roomId 채팅방 ID
+     * @param username 회원명
+     */
+    public void joined(Long roomId, String username) {
+        if (!enabled) return;
+
+        subscriptions.computeIfAbsent(roomId, id -> {
+            MessageListener listener = (message, pattern) ->
+                    sessionRegistry.broadcast(id, new TextMessage(new String(message.getBody(), StandardCharsets.UTF_8)));
+            container.addMessageListener(listener, new ChannelTopic(channel(id)));
+            return listener;
+        });
+        try {
+            touch(roomId, Set.of(username));
+        } catch (DataAccessException e) {
+            // 다음 갱신 주기에 다시 등록되므로 접속은 유지
+            log.warn("채팅 접속자 등록 실패: roomId={}, username={}, {}", roomId, username, e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 제거 후 호출 - 이 서버에 남은 세션이 없으면 접속자 제거, 채널 구독 해제
+     * @param roomId 채팅방 ID
+     * @param username 회원명
+     */
+    public void left(Long roomId, String username) {
+        if (!enabled) return;
+
+        if (!sessionRegistry.isConnected(roomId, username)) {
+            try {
+                redisTemplate.opsForZSet().remove(presenceKey(roomId), username);
+            } catch (DataAccessException e) {
+                // TTL이 지나면 접속자에서 빠지므로 기록만 함
+                log.warn("채팅 접속자 제거 실패: roomId={}, username={}, {}", roomId, username, e.getMessage());
+            }
+        }
+        // 그 사이에 같은 채팅방에 새 세션이 등록되었으면 구독 유지 (joined와 같은 키로 순서 보장)
+        subscriptions.computeIfPresent(roomId, (id, listener) -> {
+            if (sessionRegistry.hasSessions(id)) return listener;
+            container.removeMessageListener(listener, new ChannelTopic(channel(id)));
+            return null;
+        });
+    }
+
+    /**
+     * 채팅방 메시지 전송
+     * 다중 서버 모드에서는 채널에 발행하고 각 서버(이 서버 포함)가 구독으로 받아서 자기 세션에 전송한다
+     * @param roomId 채팅방 ID
+     * @param message 보낼 메시지
+     */
+    public void publish(Long roomId, TextMessage message) {
+        if (!enabled) {
+            sessionRegistry.broadcast(roomId, message);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel(roomId), message.getPayload());
+        } catch (DataAccessException e) {
+            // Redis 장애 시 이 서버의 세션에라도 전송
+            log.warn("채팅 메시지 발행 실패, 이 서버에만 전송: roomId={}, {}", roomId, e.getMessage());
+            sessionRegistry.broadcast(roomId, message);
+        }
+    }
+
+    /**
+     * 채팅방에 접속중인 회원 수 (모든 서버)
+     * @param roomId 채팅방 ID
+     * @return 접속중인 회원 수
+     */
+    public int connectedUserCount(Long roomId) {
+        if (!enabled) return sessionRegistry.connectedUserCount(roomId);
+
+        Long count = redisTemplate.opsForZSet().count(presenceKey(roomId), aliveSince(), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * 회원이 채팅방에 접속중인지 확인 (모든 서버)
+     * @param roomId 채팅방 ID
+     * @param username 회원명
+     * @return 접속 여부
+     */
+    public boolean isConnected(Long roomId, String username) {
+        if (!enabled) return sessionRegistry.isConnected(roomId, username);
+
+        Double lastSeen = redisTemplate.opsForZSet().score(presenceKey(roomId), username);
+        return lastSeen != null && lastSeen >= aliveSince();
+    }
+
+    /**
+     * 이 서버의 접속자 갱신 (heartbeat-interval-ms 주기)
+     * 갱신하면서 TTL이 지난 회원(종료된 서버의 접속자 등)도 정리한다
+     */
+    @Scheduled(fixedDelayString = "${chat.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (!enabled) return;
+
+        for (Map.Entry<Long, Set<String>> entry : sessionRegistry.connectedUsers().entrySet()) {
+            try {
+                touch(entry.getKey(), entry.getValue());
+            } catch (DataAccessException e) {
+                log.warn("채팅 접속자 갱신 실패: roomId={}, {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void touch(Long roomId, Set<String> usernames) {
+        String key = presenceKey(roomId);
+        double now = System.currentTimeMillis();
+        usernames.forEach(username -> redisTemplate.opsForZSet().add(key, username, now));
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, aliveSince() - 1);
+        // 모든 서버에서 접속자가 없어진 채팅방 key는 자동 삭제
+        redisTemplate.expire(key, Duration.ofMillis(presenceTtlMs * 2));
+    }
+
+    private double aliveSince() {
+        return System.currentTimeMillis() - presenceTtlMs;
+    }
+
+    private static String channel(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+
+    private static String presenceKey(Long roomId) {
+        return PRESENCE_PREFIX + roomId;
+    }
+}
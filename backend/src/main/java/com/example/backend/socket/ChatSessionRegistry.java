@@ -0,0 +1,257 @@
+package com.example.backend.socket;
+
+import com.example.backend.dto.chat.ChatMetricsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방별 웹소켓 세션 목록
+ * 메시지를 보낼 때 전체 세션을 순회하지 않고 해당 채팅방의 세션만 조회한다 (채팅방 인원수에 비례)
+ *
+ * - 웹소켓 스레드들이 동시에 접속/종료하므로 동시성 컬렉션을 사용하고,
+ *   채팅방의 마지막 세션이 나가면 빈 목록도 함께 제거한다
+ * - 한 회원이 여러 창으로 접속할 수 있으므로 접속 여부는 세션 목록에서 회원명으로 확인한다
+ * - 세션마다 전송 버퍼(ConcurrentWebSocketSessionDecorator)로 감싸, 한 세션에 동시에 전송해도 예외가 나지 않고
+ *   느린 세션의 전송이 끝나길 기다리지 않는다 (다른 스레드는 버퍼에 넣고 바로 돌아감)
+ * - 버퍼가 buffer-size-limit를 넘는 느린 세션은 overflow-policy에 따라 메시지를 버리거나(DROP) 연결을 끊고(CLOSE),
+ *   한 번의 전송이 send-time-limit-ms를 넘기면 정책과 관계없이 연결을 끊는다
+ */
+@Slf4j
+@Component
+public class ChatSessionRegistry {
+
+    /**
+     * 전송 버퍼가 가득 찬 느린 세션 처리 방식
+     */
+    public enum OverflowPolicy {
+        // 새 메시지를 버림 (연결 유지)
+        DROP,
+        // 연결 종료 (클라이언트가 다시 접속해 이전 메시지를 조회)
+        CLOSE
+    }
+
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    private final OverflowPolicy overflowPolicy;
+
+    // 채팅방 ID -> 접속중인 세션 (전송 버퍼로 감싼 세션)
+    private final ConcurrentHashMap<Long, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    // 세션 ID -> 채팅방/회원 (ID, 회원명) + 전송 버퍼
+    private final ConcurrentHashMap<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    // 버린 메시지 수 / 느려서 끊은 세션 수
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder closedSlowSessions = new LongAdder();
+
+    /**
+     * @param sendTimeLimitMs 한 번의 전송 최대 시간 (밀리초)
+     * @param bufferSizeLimit 세션별 전송 버퍼 최대 크기 (바이트)
+     * @param overflowPolicy 버퍼가 가득 찼을 때 처리 방식
+     */
+    public ChatSessionRegistry(@Value("${chat.outbound.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                               @Value("${chat.outbound.buffer-size-limit:65536}") int bufferSizeLimit,
+                               @Value("${chat.outbound.overflow-policy:CLOSE}") OverflowPolicy overflowPolicy) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * 세션 등록 (전송 버퍼로 감싸서 저장)
+     * @param session 접속한 세션
+     * @param roomId 채팅방 ID
+     * @param userId 회원 ID (메시지 저장용)
+     * @param username 회원명
+     */
+    public void register(WebSocketSession session, Long roomId, Long userId, String username) {
+        // 버퍼 크기 초과는 broadcast에서 정책대로 먼저 처리하고, 동시에 넣어서 넘친 경우에만 데코레이터가 연결을 끊는다
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit * 2,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+
+        sessions.put(session.getId(), new Entry(new SessionInfo(roomId, userId, username), outbound));
+        roomSessions.compute(roomId, (id, set) -> {
+            Set<WebSocketSession> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(outbound);
+            return target;
+        });
+    }
+
+    /**
+     * 세션 제거 (채팅방에 남은 세션이 없으면 목록도 제거)
+     * @param session 종료된 세션
+     * @return 제거된 세션의 채팅방/회원 (등록되지 않은 세션이면 null)
+     */
+    public SessionInfo unregister(WebSocketSession session) {
+        Entry entry = sessions.remove(session.getId());
+        if (entry == null) return null;
+
+        roomSessions.computeIfPresent(entry.info().roomId(), (id, set) -> {
+            set.remove(entry.outbound());
+            return set.isEmpty() ? null : set;
+        });
+        return entry.info();
+    }
+
+    /**
+     * 세션의 채팅방/회원 조회 (전송 버퍼로 감싼 세션도 원래 세션과 ID가 같음)
+     * @param session 세션
+     * @return 채팅방/회원 (등록되지 않은 세션이면 null)
+     */
+    public SessionInfo get(WebSocketSession session) {
+        Entry entry = sessions.get(session.getId());
+        return entry != null ? entry.info() : null;
+    }
+
+    /**
+     * 채팅방의 열린 세션에 메시지 전송
+     * 메시지 객체는 호출한 쪽에서 한 번만 만들어 모든 세션에 그대로 사용한다
+     * 느린 세션은 전송을 기다리지 않고 버퍼에 쌓이며, 버퍼가 가득 차면 정책에 따라 처리한다
+     * @param roomId 채팅방 ID
+     * @param message 보낼 메시지
+     * @return 전송(버퍼에 추가 포함)한 세션 수
+     */
+    public int broadcast(Long roomId, TextMessage message) {
+        int sent = 0;
+        for (WebSocketSession session : roomSessions.getOrDefault(roomId, Collections.emptySet())) {
+            if (!session.isOpen()) continue;
+            if (send(session, message)) sent++;
+        }
+        return sent;
+    }
+
+    /**
+     * 세션 하나에만 메시지 전송 (전송 버퍼로 감싼 세션으로 전송)
+     * @param session 받을 세션
+     * @param message 보낼 메시지
+     * @return 전송(버퍼에 추가 포함) 여부
+     */
+    public boolean sendTo(WebSocketSession session, TextMessage message) {
+        Entry entry = sessions.get(session.getId());
+        if (entry == null || !entry.outbound().isOpen()) return false;
+        return send(entry.outbound(), message);
+    }
+
+    private boolean send(WebSocketSession session, TextMessage message) {
+        if (bufferSize(session) + message.getPayloadLength() > bufferSizeLimit) {
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                droppedFrames.increment();
+                return false;
+            }
+            closeSlow(session, CloseStatus.SESSION_NOT_RELIABLE.withReason("전송 버퍼 초과"));
+            return false;
+        }
+
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (SessionLimitExceededException e) {
+            // 전송 시간 초과 또는 동시에 넣어서 버퍼가 넘침
+            closeSlow(session, e.getStatus());
+        } catch (IOException e) {
+            // 한 세션의 전송 실패가 나머지 전송을 막지 않도록 기록만 함 (종료 처리는 afterConnectionClosed)
+            log.warn("채팅 메시지 전송 실패: session={}, {}", session.getId(), e.getMessage());
+        }
+        return false;
+    }
+
+    private void closeSlow(WebSocketSession session, CloseStatus status) {
+        closedSlowSessions.increment();
+        log.warn("느린 세션 연결 종료: session={}, buffer={}bytes, {}", session.getId(), bufferSize(session), status);
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("느린 세션 종료 실패: session={}", session.getId(), e);
+        }
+    }
+
+    private int bufferSize(WebSocketSession session) {
+        return ((ConcurrentWebSocketSessionDecorator) session).getBufferSize();
+    }
+
+    /**
+     * 채팅방에 접속중인 회원 수 (여러 창으로 접속한 회원은 한 명)
+     * @param roomId 채팅방 ID
+     * @return 접속중인 회원 수
+     */
+    public int connectedUserCount(Long roomId) {
+        return (int) roomSessions.getOrDefault(roomId, Collections.emptySet()).stream()
+                .map(this::get)
+                .filter(Objects::nonNull)
+                .map(SessionInfo::username)
+                .distinct()
+                .count();
+    }
+
+    /**
+     * 회원이 채팅방에 접속중인지 확인
+     * @param roomId 채팅방 ID
+     * @param username 회원명
+     * @return 접속 여부
+     */
+    public boolean isConnected(Long roomId, String username) {
+        return roomSessions.getOrDefault(roomId, Collections.emptySet()).stream()
+                .map(this::get)
+                .anyMatch(info -> info != null && info.username().equals(username));
+    }
+
+    /**
+     * 이 서버에 채팅방 세션이 남아 있는지 확인
+     * @param roomId 채팅방 ID
+     * @return 세션 존재 여부
+     */
+    public boolean hasSessions(Long roomId) {
+        return roomSessions.containsKey(roomId);
+    }
+
+    /**
+     * 이 서버에 접속중인 채팅방별 회원명 (접속 상태 갱신용)
+     * @return 채팅방 ID -> 회원명 목록
+     */
+    public Map<Long, Set<String>> connectedUsers() {
+        Map<Long, Set<String>> users = new HashMap<>();
+        sessions.values().forEach(entry ->
+                users.computeIfAbsent(entry.info().roomId(), id -> new HashSet<>()).add(entry.info().username()));
+        return users;
+    }
+
+    /**
+     * 전송 버퍼 지표 (세션 수, 버퍼에 쌓인 크기, 버린 메시지 수, 느려서 끊은 세션 수)
+     * @return 채팅 전송 지표
+     */
+    public ChatMetricsResponse metrics() {
+        long bufferedBytes = 0;
+        int maxBufferedBytes = 0;
+        for (Entry entry : sessions.values()) {
+            int size = bufferSize(entry.outbound());
+            bufferedBytes += size;
+            maxBufferedBytes = Math.max(maxBufferedBytes, size);
+        }
+
+        return ChatMetricsResponse.builder()
+                .sessions(sessions.size())
+                .rooms(roomSessions.size())
+                .bufferedBytes(bufferedBytes)
+                .maxBufferedBytes(maxBufferedBytes)
+                .droppedFrames(droppedFrames.sum())
+                .closedSlowSessions(closedSlowSessions.sum())
+                .overflowPolicy(overflowPolicy.name())
+                .build();
+    }
+
+    public record SessionInfo(Long roomId, Long userId, String username) {
+    }
+
+    private record Entry(SessionInfo info, WebSocketSession outbound) {
+    }
+}
@@ -13,21 +13,20 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.*;
-
 @RequiredArgsConstructor
 @Component
 public class RoomChatHandler extends TextWebSocketHandler {
 
+    // 쓰기 지연 큐가 가득 차 메시지를 저장하지 못했을 때 보낸 회원에게 보내는 안내
+    private static final TextMessage SAVE_REJECTED = new TextMessage("메시지를 저장하지 못했습니다. 잠시 후 다시 보내주세요.");
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomTextService chatRoomTextService;
 
-    // 세션별 매핑
-    private final Map<WebSocketSession, Long> sessionRoomMap = new HashMap<>();
-    private final Map<WebSocketSession, String> sessionUserMap = new HashMap<>();
-
-    // 방별 접속자 관리 (메모리)
-    private final Map<Long, Set<String>> roomConnectedUsersMap = new HashMap<>();
+    // 채팅방별 세션/접속자 관리 (메모리)
+    private final ChatSessionRegistry sessionRegistry;
+    // 다중 서버 메시지 전달/접속자 공유 (Redis, chat.cluster.enabled)
+    private final ChatClusterBroker clusterBroker;
 
     /**
      * 사용자가 세션에 접속할 때 실행되는 메서드
@@ -48,7 +47,8 @@ public class RoomChatHandler extends TextWebSocketHandler {
         }
 
         Long roomId = Long.valueOf(roomIdStr);
-        ChatRoom room =  chatRoomRepository.findById(roomId).orElse(null);
+        // 트랜잭션 밖이므로 방장과 초대된 회원을 함께 조회 (엔티티 그래프)
+        ChatRoom room =  chatRoomRepository.findMembersById(roomId).orElse(null);
 
         User connectingUser = null;
         if (room != null) {
@@ -63,13 +63,9 @@ public class RoomChatHandler extends TextWebSocketHandler {
         }
 
         if (connectingUser != null) {
-            sessionRoomMap.put(session, roomId);
-            sessionUserMap.put(session, username);
-
-            // 메모리에서 접속자 관리
-            roomConnectedUsersMap.putIfAbsent(roomId, new HashSet<>());
-            roomConnectedUsersMap.get(roomId).add(username);
-
+            // 메모리에서 세션 관리, 다중 서버 모드이면 채팅방 채널 구독 + 접속자 등록
+            sessionRegistry.register(session, roomId, connectingUser.getId(), username);
+            clusterBroker.joined(roomId, username);
         } else {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("초대된 사용자만 접속 가능합니다."));
         }
@@ -77,44 +73,41 @@ public class RoomChatHandler extends TextWebSocketHandler {
 
     /**
      * 사용자가 메시지 전송 요청을 받았을 때 처리하는 메서드
-     * 해당하는 세션에 메시지를 전송한다
-     * 데이터베이스에 메시지를 저장한다
+     * 메시지를 최근 메시지 버퍼에 추가하고 한 번 저장 요청하고 (쓰기 지연 큐 - 저장을 기다리지 않음)
+     * 같은 채팅방의 세션에만 메시지를 전송한다 (다중 서버 모드이면 채팅방 채널로 발행해 각 서버가 전송)
      * @param session
      * @param message
      * @throws Exception
      */
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        Long roomId = sessionRoomMap.get(session);
-        String username = sessionUserMap.get(session);
-
-        if (roomId != null && username != null) {
-            for (WebSocketSession s : sessionRoomMap.keySet()) { // 현재 sessionMap에 존재하는 session들을 순회하고 반환한다
-                if (roomId.equals(sessionRoomMap.get(s)) && s.isOpen()) { // 반환된 session으로 roomId를 검색한 후 일치 여부 검사 && 해당 세션이 열려 있는지 확인
-                    chatRoomTextService.createMessage(roomId, username, message); // 데이터베이스에 메시지 저장
-                    s.sendMessage(new TextMessage(username + ": " + message.getPayload()));
-                }
-            }
+        ChatSessionRegistry.SessionInfo info = sessionRegistry.get(session);
+        if (info == null) return;
+
+        // 최근 메시지 버퍼 + 데이터베이스에 메시지 저장 (배치)
+        if (!chatRoomTextService.createMessage(info.roomId(), info.userId(), info.username(), message)) {
+            // 저장 대기열이 가득 차 저장하지 않은 메시지는 다른 회원에게 보내지 않고 보낸 회원에게만 알림
+            sessionRegistry.sendTo(session, SAVE_REJECTED);
+            return;
         }
+
+        // 보낼 메시지는 한 번만 만들어 채팅방의 모든 세션에 전송
+        TextMessage outbound = new TextMessage(info.username() + ": " + message.getPayload());
+        clusterBroker.publish(info.roomId(), outbound);
     }
 
     /**
      * 회원과 세션의 연결 정보가 끊어졌을 때 실행되는 메서드
-     * 세션 Map에서 현재 회원과 연결되어 있던 세션을 제거한다
-     * 접속중인 회원 Map에서 현재 회원을 제거한다
+     * 채팅방 세션 목록에서 현재 회원과 연결되어 있던 세션을 제거한다
      * @param session
      * @param status
      * @throws Exception
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        Long roomId = sessionRoomMap.remove(session);
-        String username = sessionUserMap.remove(session);
-
-        if (roomId != null && username != null) {
-            if (roomConnectedUsersMap.containsKey(roomId)) {
-                roomConnectedUsersMap.get(roomId).remove(username);
-            }
+        ChatSessionRegistry.SessionInfo info = sessionRegistry.unregister(session);
+        if (info != null) {
+            clusterBroker.left(info.roomId(), info.username());
         }
     }
 
@@ -138,7 +131,7 @@ public class RoomChatHandler extends TextWebSocketHandler {
      * @return 접속중인 회원 수
      */
     public int getConnectedUserCount(Long roomId) {
-        return roomConnectedUsersMap.getOrDefault(roomId, Collections.emptySet()).size();
+        return clusterBroker.connectedUserCount(roomId);
     }
 
     /**
@@ -148,6 +141,6 @@ public class RoomChatHandler extends TextWebSocketHandler {
      * @return 접속 여부 boolean 값
      */
     public boolean isConnected(Long roomId, String username) {
-        return roomConnectedUsersMap.getOrDefault(roomId, Collections.emptySet()).contains(username);
+        return clusterBroker.isConnected(roomId, username);
     }
 }
@@ -0,0 +1,62 @@
+package com.example.backend.web;
+
+import com.example.backend.service.PostsViewedStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 이전 방식의 게시글 조회 정보(posts_viewed 행)를 회원별 조회 비트맵으로 옮기는 마이그레이션
+ * 회원 단위로 비트맵에 합치고 저장이 끝난 회원의 행만 삭제하므로, 중간에 멈춰도 다음 시작 시 이어서 진행된다
+ * (비트맵 합치기는 여러 번 실행해도 결과가 같음, 옮길 행이 없으면 조회 한 번으로 끝남)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostsViewedMigration implements CommandLineRunner {
+
+    private static final int BATCH_USERS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostsViewedStore postsViewedStore;
+
+    @Override
+    public void run(String... args) {
+        int users = 0;
+        long rows = 0;
+
+        List<Long> userIds;
+        do {
+            userIds = jdbcTemplate.queryForList(
+                    "select distinct user_id from posts_viewed where user_id is not null order by user_id limit " + BATCH_USERS,
+                    Long.class);
+            if (userIds.isEmpty()) break;
+
+            for (Long userId : userIds) {
+                List<Long> postsIds = jdbcTemplate.queryForList(
+                        "select posts_id from posts_viewed where user_id = ? and posts_id is not null", Long.class, userId);
+                postsViewedStore.markViewedAll(userId, postsIds);
+                rows += postsIds.size();
+            }
+
+            // 비트맵 저장이 끝난 뒤에만 옮긴 행 삭제 (저장 실패 시 예외로 중단)
+            postsViewedStore.flush();
+            String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+            jdbcTemplate.update("delete from posts_viewed where user_id in (" + placeholders + ")", userIds.toArray());
+
+            users += userIds.size();
+        } while (userIds.size() == BATCH_USERS);
+
+        // 회원 정보 없이 저장된 행은 옮길 대상이 없으므로 삭제
+        jdbcTemplate.update("delete from posts_viewed where user_id is null");
+
+        if (users > 0) {
+            log.info("게시글 조회 정보 비트맵 마이그레이션 완료: 회원 {}명, {}건", users, rows);
+        }
+    }
+}
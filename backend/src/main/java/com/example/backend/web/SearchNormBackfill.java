@@ -0,0 +1,67 @@
+package com.example.backend.web;
+
+import com.example.backend.entity.utilities.SearchNormalizeListener;
+import com.example.backend.service.EntityCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 검색용 정규화 컬럼(title_norm, username_norm, room_name_norm) 백필
+ * 정규화 컬럼 도입 이전에 저장된 행은 리스너를 거치지 않았으므로 시작 시 비어 있는 행만 채운다
+ * (이미 채워진 경우 조회 한 번으로 끝남)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchNormBackfill implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCache entityCache;
+
+    @Override
+    public void run(String... args) {
+        backfill("posts", "title", "title_norm");
+        // 회원/채팅방은 2차 캐시 대상이므로 채운 행이 있으면 캐시를 비움
+        if (backfill("users", "username", "username_norm") > 0) entityCache.evictAllUsers();
+        if (backfill("chat_room", "room_name", "room_name_norm") > 0) entityCache.evictAllChatRooms();
+    }
+
+    /**
+     * 정규화 컬럼이 비어 있는 행을 ID 순서로 일정 개수씩 채움
+     * @param table 테이블명
+     * @param column 원본 컬럼
+     * @param normColumn 정규화 컬럼
+     * @return 채운 행 수
+     */
+    private int backfill(String table, String column, String normColumn) {
+        String select = "select id, " + column + " from " + table +
+                " where " + column + " is not null and " + normColumn + " is null and id > ? order by id limit " + BATCH_SIZE;
+        String update = "update " + table + " set " + normColumn + " = ? where id = ?";
+
+        long lastId = 0L;
+        int total = 0;
+        List<Object[]> rows;
+        do {
+            rows = jdbcTemplate.query(select,
+                    (rs, rowNum) -> new Object[]{SearchNormalizeListener.normalize(rs.getString(2)), rs.getLong(1)},
+                    lastId);
+            if (rows.isEmpty()) break;
+
+            jdbcTemplate.batchUpdate(update, rows);
+            lastId = (Long) rows.get(rows.size() - 1)[1];
+            total += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("{}.{} 백필 완료: {}건", table, normColumn, total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 사용 여부
+ * 2차 캐시(Caffeine JCache)는 서버별 메모리이고 변경/무효화가 다른 서버에 전달되지 않으므로,
+ * 다중 서버 모드(chat.cluster.enabled)에서는 끄고 DB에서 읽는다
+ * (다른 서버에서 초대 회원이 바뀌어도 만료 시간 동안 이전 목록으로 접속을 확인하게 됨)
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * @param clustered 다중 서버 모드 여부
+     * @return 다중 서버 모드이면 2차 캐시와 쿼리 캐시를 끄는 설정
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(@Value("${chat.cluster.enabled:false}") boolean clustered) {
+        return properties -> {
+            if (!clustered) return;
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            log.info("다중 서버 모드: Hibernate 2차 캐시 사용하지 않음");
+        };
+    }
+}
@@ -0,0 +1,170 @@
+-- 기본 스키마 (MariaDB)
+-- ddl-auto: update로 만들어진 기존 DB에서도 실행되도록 모두 IF NOT EXISTS로 작성한다
+-- (prod는 baseline-version 0으로 기준을 잡으므로 기존 DB에도 V1부터 적용됨)
+-- posts <-> comment(채택 댓글)처럼 서로 참조하는 테이블이 있어 외래 키 검사를 잠시 끈다
+
+set foreign_key_checks = 0;
+
+create table if not exists users (
+    id            bigint       not null auto_increment,
+    created_date  datetime(6),
+    email         varchar(255),
+    username      varchar(255),
+    username_norm varchar(255),
+    password      varchar(255),
+    authority     tinyint,
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine = InnoDB;
+
+create table if not exists posts (
+    id                  bigint   not null auto_increment,
+    created_date        datetime(6),
+    subject             tinyint,
+    title               varchar(255),
+    title_norm          varchar(255),
+    content             longtext,
+    user_id             bigint,
+    like_count          integer  not null default 0,
+    view_count          bigint,
+    comment_count       integer  not null default 0,
+    modified_date       datetime(6),
+    region              varchar(255),
+    meeting_info        varchar(255),
+    max_user_number     integer,
+    current_user_number integer,
+    book_title          varchar(255),
+    page_number         integer,
+    adopted_comment_id  bigint,
+    primary key (id),
+    constraint uk_posts_adopted_comment unique (adopted_comment_id),
+    constraint fk_posts_user foreign key (user_id) references users (id),
+    constraint fk_posts_adopted_comment foreign key (adopted_comment_id) references comment (id)
+) engine = InnoDB;
+
+create table if not exists comment (
+    id            bigint  not null auto_increment,
+    created_date  datetime(6),
+    content       varchar(255),
+    user_id       bigint,
+    posts_id      bigint,
+    like_count    integer not null default 0,
+    modified_date datetime(6),
+    primary key (id),
+    constraint fk_comment_user foreign key (user_id) references users (id),
+    constraint fk_comment_posts foreign key (posts_id) references posts (id)
+) engine = InnoDB;
+
+create table if not exists posts_likes (
+    id      bigint not null auto_increment,
+    user_id bigint,
+    post_id bigint,
+    primary key (id),
+    constraint fk_posts_likes_user foreign key (user_id) references users (id),
+    constraint fk_posts_likes_posts foreign key (post_id) references posts (id)
+) engine = InnoDB;
+
+create table if not exists comment_likes (
+    id         bigint not null auto_increment,
+    comment_id bigint,
+    user_id    bigint,
+    posts_id   bigint,
+    primary key (id),
+    constraint fk_comment_likes_comment foreign key (comment_id) references comment (id),
+    constraint fk_comment_likes_user foreign key (user_id) references users (id),
+    constraint fk_comment_likes_posts foreign key (posts_id) references posts (id)
+) engine = InnoDB;
+
+create table if not exists posts_viewed (
+    id       bigint not null auto_increment,
+    user_id  bigint,
+    posts_id bigint,
+    primary key (id),
+    constraint fk_posts_viewed_user foreign key (user_id) references users (id),
+    constraint fk_posts_viewed_posts foreign key (posts_id) references posts (id)
+) engine = InnoDB;
+
+create table if not exists posts_viewed_bitmap (
+    user_id       bigint   not null,
+    bitmap        longblob not null,
+    modified_date datetime(6),
+    primary key (user_id)
+) engine = InnoDB;
+
+create table if not exists alert (
+    id           bigint not null auto_increment,
+    created_date datetime(6),
+    subject      tinyint,
+    receiver_id  bigint,
+    sender_id    bigint,
+    posts_id     bigint,
+    content      varchar(255),
+    comment_id   bigint,
+    primary key (id),
+    constraint fk_alert_receiver foreign key (receiver_id) references users (id),
+    constraint fk_alert_sender foreign key (sender_id) references users (id),
+    constraint fk_alert_posts foreign key (posts_id) references posts (id),
+    constraint fk_alert_comment foreign key (comment_id) references comment (id)
+) engine = InnoDB;
+
+create table if not exists alert_viewed (
+    id       bigint not null auto_increment,
+    user_id  bigint,
+    alert_id bigint,
+    primary key (id),
+    constraint fk_alert_viewed_user foreign key (user_id) references users (id),
+    constraint fk_alert_viewed_alert foreign key (alert_id) references alert (id)
+) engine = InnoDB;
+
+create table if not exists chat_room (
+    id                  bigint not null auto_increment,
+    room_name           varchar(255),
+    room_name_norm      varchar(255),
+    creator_id          bigint,
+    posts_id            bigint,
+    max_user_number     integer,
+    current_user_number integer,
+    primary key (id),
+    constraint uk_chat_room_posts unique (posts_id),
+    constraint fk_chat_room_creator foreign key (creator_id) references users (id),
+    constraint fk_chat_room_posts foreign key (posts_id) references posts (id)
+) engine = InnoDB;
+
+create table if not exists chat_room_invited_users (
+    chat_room_id bigint not null,
+    user_id      bigint not null,
+    constraint fk_chat_room_invited_users_room foreign key (chat_room_id) references chat_room (id),
+    constraint fk_chat_room_invited_users_user foreign key (user_id) references users (id)
+) engine = InnoDB;
+
+create table if not exists chat_room_text (
+    id           bigint not null auto_increment,
+    created_date datetime(6),
+    room_id      bigint,
+    writer_id    bigint,
+    text         varchar(255),
+    primary key (id),
+    constraint fk_chat_room_text_room foreign key (room_id) references chat_room (id),
+    constraint fk_chat_room_text_writer foreign key (writer_id) references users (id)
+) engine = InnoDB;
+
+create table if not exists report (
+    id         bigint not null auto_increment,
+    posts_id   bigint,
+    comment_id bigint,
+    user_id    bigint,
+    primary key (id),
+    constraint fk_report_posts foreign key (posts_id) references posts (id),
+    constraint fk_report_comment foreign key (comment_id) references comment (id),
+    constraint fk_report_user foreign key (user_id) references users (id)
+) engine = InnoDB;
+
+set foreign_key_checks = 1;
+
+-- 처음 배포 이후 추가된 컬럼 (ddl-auto로 아직 만들어지지 않은 기존 DB용)
+alter table users add column if not exists username_norm varchar(255);
+alter table posts add column if not exists title_norm varchar(255);
+alter table posts add column if not exists like_count integer not null default 0;
+alter table posts add column if not exists comment_count integer not null default 0;
+alter table comment add column if not exists like_count integer not null default 0;
+alter table chat_room add column if not exists room_name_norm varchar(255);
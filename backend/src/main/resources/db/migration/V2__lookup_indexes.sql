@@ -0,0 +1,50 @@
+-- 조회 경로별 복합 인덱스 (엔티티의 @Index / @UniqueConstraint 와 같은 이름으로 유지)
+-- 외래 키 컬럼 단일 인덱스는 InnoDB가 자동으로 만들므로, 여기서는 조건 + 정렬을 함께 처리하는 복합 인덱스만 추가한다
+
+-- 좋아요: (회원, 대상) 유니크 - 좋아요 여부 확인 / 페이지 단위 IN 조회 / 중복 등록 방지
+-- 유니크 제약 추가 전에 동시 요청으로 생긴 중복 행을 정리하고 카운터를 다시 맞춘다
+delete pl from posts_likes pl
+    join posts_likes keep on keep.user_id = pl.user_id and keep.post_id = pl.post_id and keep.id < pl.id;
+delete cl from comment_likes cl
+    join comment_likes keep on keep.user_id = cl.user_id and keep.comment_id = cl.comment_id and keep.id < cl.id;
+update posts p set like_count = (select count(*) from posts_likes pl where pl.post_id = p.id);
+update comment c set like_count = (select count(*) from comment_likes cl where cl.comment_id = c.id);
+
+create unique index if not exists uk_posts_likes_user_post on posts_likes (user_id, post_id);
+create unique index if not exists uk_comment_likes_user_comment on comment_likes (user_id, comment_id);
+
+-- 이전 방식 조회 정보 (비트맵으로 옮기기 전까지 남은 행 조회)
+create index if not exists idx_posts_viewed_user_posts on posts_viewed (user_id, posts_id);
+
+-- 게시글: 검색 / 카운터 정렬 / 작성자별 목록 / 주제 탭 목록
+create index if not exists idx_posts_title_norm on posts (title_norm);
+create index if not exists idx_posts_like_count on posts (like_count, id);
+create index if not exists idx_posts_comment_count on posts (comment_count, id);
+create index if not exists idx_posts_view_count on posts (view_count, id);
+create index if not exists idx_posts_user_id on posts (user_id, id);
+create index if not exists idx_posts_subject_id on posts (subject, id);
+
+-- 댓글: 게시글 상세 커서 조회 / 작성자별 목록
+create index if not exists idx_comment_posts_id on comment (posts_id, id);
+create index if not exists idx_comment_user_id on comment (user_id, id);
+
+-- 알림: 모집 신청 상태 / 목록 탭 / 중복 신청 확인
+create index if not exists idx_alert_posts_receiver_subject on alert (posts_id, receiver_id, subject);
+create index if not exists idx_alert_receiver_subject on alert (receiver_id, subject, id);
+create index if not exists idx_alert_posts_sender_subject on alert (posts_id, sender_id, subject);
+
+-- 알림 조회 여부
+create index if not exists idx_alert_viewed_alert_user on alert_viewed (alert_id, user_id);
+
+-- 채팅방: 이름 검색 / 초대된 채팅방 / 메시지 조회
+create index if not exists idx_chat_room_room_name_norm on chat_room (room_name_norm);
+create index if not exists idx_chat_room_invited_users_user on chat_room_invited_users (user_id, chat_room_id);
+create index if not exists idx_chat_room_text_room_id on chat_room_text (room_id, id);
+
+-- 신고: 중복 신고 확인 / 게시글·댓글별 신고 조회
+create index if not exists idx_report_posts_user on report (posts_id, user_id);
+create index if not exists idx_report_comment_user on report (comment_id, user_id);
+
+-- 회원: 회원명 검색 / 중복 확인
+create index if not exists idx_users_username_norm on users (username_norm);
+create index if not exists idx_users_username on users (username);
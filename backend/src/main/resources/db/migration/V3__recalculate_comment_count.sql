@@ -0,0 +1,4 @@
+-- 게시글 댓글 수 카운터 일회성 보정 (카운터 도입 이전 데이터 / cascade 삭제로 어긋난 값)
+-- 좋아요 수는 V2에서 중복 행 정리와 함께 다시 맞췄으므로 여기서는 댓글 수만 보정한다
+-- 이후에는 댓글 작성/삭제와 일괄 삭제에서 원자적으로 증감하므로 다시 계산하지 않는다
+update posts p set comment_count = (select count(*) from comment c where c.posts_id = p.id);
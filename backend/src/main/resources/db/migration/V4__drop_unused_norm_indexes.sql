@@ -0,0 +1,4 @@
+-- 제목/채팅방 이름 검색은 부분 일치(LIKE '%검색어%')라 인덱스를 사용할 수 없으므로 쓰기 비용만 드는 인덱스 삭제
+-- (정규화 컬럼은 공백/대소문자 무시 비교용으로 유지, 회원명은 접두사 검색이라 idx_users_username_norm 유지)
+drop index if exists idx_posts_title_norm on posts;
+drop index if exists idx_chat_room_room_name_norm on chat_room;
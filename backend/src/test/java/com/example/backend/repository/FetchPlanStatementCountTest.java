@@ -0,0 +1,166 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.*;
+import com.example.backend.entity.utilities.AlertSubject;
+import com.example.backend.entity.utilities.PostsSubject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연관관계 기본 지연 로딩 + 조회 목적별 엔티티 그래프가 의도한 SQL 문장 수로 실행되는지 확인
+ * Hibernate 통계의 prepared statement 수로 센다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FetchPlanStatementCountTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatRoomTextRepository chatRoomTextRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private User receiver;
+    private Posts posts;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        List<User> users = IntStream.range(0, ROWS)
+                .mapToObj(i -> User.builder().email("fetch" + i + "@test.com").username("fetch" + i).password("pw").build())
+                .peek(entityManager::persist)
+                .toList();
+        receiver = users.get(0);
+
+        posts = Posts.builder().subject(PostsSubject.RECRUIT).title("지연 로딩").content("본문").user(receiver).build();
+        entityManager.persist(posts);
+
+        room = ChatRoom.builder().roomName("채팅방").creator(receiver).posts(posts).invitedUsers(new ArrayList<>(users.subList(1, ROWS))).build();
+        entityManager.persist(room);
+
+        // 회원마다 댓글, 알림, 채팅 메시지 하나씩
+        users.forEach(user -> {
+            Comment comment = Comment.builder().content("댓글").user(user).posts(posts).build();
+            entityManager.persist(comment);
+            entityManager.persist(Alert.builder().subject(AlertSubject.COMMENT).content("알림")
+                    .user(receiver).sender(user).posts(posts).comment(comment).build());
+            entityManager.persist(ChatRoomText.builder().room(room).writer(user).text("메시지").build());
+        });
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdDoesNotFetchAssociations() {
+        Alert alert = alertRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        entityManager.clear();
+        statistics.clear();
+
+        Alert found = alertRepository.findById(alert.getId()).orElseThrow();
+
+        // 보낸 회원/게시글/댓글은 프록시로 남아 조인이나 추가 조회가 없다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(found, "sender")).isFalse();
+    }
+
+    @Test
+    void postsDetailGraphLoadsInOneStatement() {
+        Posts found = postsRepository.findDetailById(posts.getId()).orElseThrow();
+        found.getUser().getUsername();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void alertListGraphAvoidsNPlusOne() {
+        Specification<Alert> spec = (root, query, cb) -> cb.equal(root.get("user"), receiver);
+
+        Page<Alert> page = alertRepository.findAll(spec, PageRequest.of(0, ROWS - 1));
+        page.forEach(alert -> {
+            alert.getSender().getUsername();
+            alert.getPosts().getTitle();
+        });
+
+        // 목록 조회 + count 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void chatHistoryGraphLoadsWritersInOneStatement() {
+        List<ChatRoomText> texts = chatRoomTextRepository.findByRoomIdOrderByIdDesc(room.getId(), Limit.of(25));
+        texts.forEach(text -> text.getWriter().getUsername());
+
+        assertThat(texts).hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void chatHistoryCursorSeeksOlderMessages() {
+        List<ChatRoomText> recent = chatRoomTextRepository.findByRoomIdOrderByIdDesc(room.getId(), Limit.of(4));
+        Long cursor = recent.get(recent.size() - 1).getId();
+
+        List<ChatRoomText> older = chatRoomTextRepository.findByRoomIdAndIdLessThanOrderByIdDesc(room.getId(), cursor, Limit.of(25));
+        older.forEach(text -> text.getWriter().getUsername());
+
+        // 커서 이전 메시지만 최근 순으로, 작성자와 함께 조회 (최근 메시지 + 이전 메시지 각 한 문장)
+        assertThat(older).hasSize(ROWS - 4);
+        assertThat(older).extracting(ChatRoomText::getId)
+                .allMatch(id -> id < cursor)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void chatRoomMembersGraphLoadsInOneStatement() {
+        ChatRoom found = chatRoomRepository.findMembersById(room.getId()).orElseThrow();
+        found.getCreator().getUsername();
+        found.getInvitedUsers().forEach(User::getUsername);
+
+        assertThat(found.getInvitedUsers()).hasSize(ROWS - 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void lazyUsersAreInitializedInOneBatch() {
+        List<Comment> comments = commentRepository.findAll();
+        comments.forEach(comment -> comment.getUser().getUsername());
+
+        // 댓글 조회 + 작성자 프록시를 IN 쿼리 한 번으로 초기화 (@BatchSize)
+        assertThat(comments).hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
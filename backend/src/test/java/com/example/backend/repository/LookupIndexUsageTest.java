@@ -0,0 +1,235 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.*;
+import com.example.backend.entity.utilities.AlertSubject;
+import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.repository.PostsContentLazyLoadingTest.SqlCollector;
+import com.example.backend.service.searchSpec.AlertSearchSpec;
+import com.example.backend.service.searchSpec.CommentSearchSpec;
+import com.example.backend.service.searchSpec.CursorSpec;
+import com.example.backend.service.searchSpec.PostSearchSpec;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로별로 리포지토리 메서드가 실제로 실행한 SQL을 수집해 실행 계획(H2 EXPLAIN)이 설계한 복합 인덱스를 사용하는지 확인
+ * 인덱스는 엔티티의 @Index / @UniqueConstraint 로 생성되며, prod(MariaDB)는 같은 이름으로 V2 마이그레이션에서 생성한다
+ * SQL은 StatementInspector(PostsContentLazyLoadingTest.SqlCollector)로 수집하고, 바인딩 값 없이 계획만 확인한다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.example.backend.repository.PostsContentLazyLoadingTest$SqlCollector")
+class LookupIndexUsageTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostsLikesRepository postsLikesRepository;
+
+    @Autowired
+    private CommentLikesRepository commentLikesRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertViewedRepository alertViewedRepository;
+
+    @Autowired
+    private ChatRoomTextRepository chatRoomTextRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Posts posts;
+    private Comment comment;
+    private Alert alert;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("reader@test.com").username("reader").password("pw").build();
+        entityManager.persist(user);
+
+        posts = Posts.builder().subject(PostsSubject.RECRUIT).title("인덱스").content("본문").user(user).build();
+        entityManager.persist(posts);
+
+        comment = Comment.builder().content("댓글").user(user).posts(posts).build();
+        entityManager.persist(comment);
+
+        alert = Alert.builder().subject(AlertSubject.COMMENT).content("알림")
+                .user(user).sender(user).posts(posts).comment(comment).build();
+        entityManager.persist(alert);
+
+        room = ChatRoom.builder().roomName("채팅방").creator(user).posts(posts).invitedUsers(new ArrayList<>()).build();
+        entityManager.persist(room);
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlCollector.clear();
+    }
+
+    @Test
+    void postsLikesLookupsUseUniqueKey() {
+        postsLikesRepository.existsByUserAndPosts(user, posts);
+        postsLikesRepository.findPostsIdsByUserAndPostsIdIn(user, List.of(posts.getId(), 2L, 3L));
+
+        assertUsesIndex("posts_likes", "uk_posts_likes_user_post");
+    }
+
+    @Test
+    void commentLikesLookupUsesUniqueKey() {
+        commentLikesRepository.findCommentIdsByUserAndCommentIdIn(user, List.of(comment.getId(), 2L, 3L));
+
+        assertUsesIndex("comment_likes", "uk_comment_likes_user_comment");
+    }
+
+    @Test
+    void alertViewedLookupUsesAlertIndex() {
+        alertViewedRepository.existsByAlert(alert);
+
+        assertUsesIndex("alert_viewed", "idx_alert_viewed_alert_user");
+    }
+
+    @Test
+    void receivedAlertTabUsesReceiverIndex() {
+        // AlertService.indexAfter - 받은 알림 탭 목록 (최신순 커서)
+        alertRepository.findBy(AlertSearchSpec.search(user, null, "", 1).and(CursorSpec.before(Long.MAX_VALUE)),
+                query -> query.project("sender", "posts").sortBy(CursorSpec.ID_DESC).limit(11).all());
+
+        assertUsesIndex("alert", "idx_alert_receiver_subject");
+    }
+
+    @Test
+    void duplicateAlertCheckUsesPostsSenderIndex() {
+        alertRepository.existsByPostsAndSenderAndSubject(posts, user, AlertSubject.APPLICATION);
+
+        assertUsesIndex("alert", "idx_alert_posts_sender_subject");
+    }
+
+    @Test
+    void recruitmentStatusUsesPostsIndex() {
+        // 신청(보낸 회원)과 승인/거절(받은 회원) 조건을 OR로 묶으므로 게시글 ID로 시작하는 두 인덱스 중 하나로 범위를 좁힌다
+        alertRepository.findRecruitmentSubjects(posts.getId(), user.getId(), user.getId(), PageRequest.of(0, 1));
+
+        assertUsesIndex("alert", "idx_alert_posts_receiver_subject", "idx_alert_posts_sender_subject");
+    }
+
+    @Test
+    void chatHistoryUsesRoomIndex() {
+        chatRoomTextRepository.findByRoomIdOrderByIdDesc(room.getId(), Limit.of(25));
+        chatRoomTextRepository.findByRoomIdAndIdLessThanOrderByIdDesc(room.getId(), Long.MAX_VALUE, Limit.of(25));
+
+        assertUsesIndex("chat_room_text", "idx_chat_room_text_room_id");
+    }
+
+    @Test
+    void postsReportCheckUsesPostsUserIndex() {
+        reportRepository.existsByUserAndPosts(user, posts);
+        reportRepository.findAllByPosts(posts);
+
+        assertUsesIndex("report", "idx_report_posts_user");
+    }
+
+    @Test
+    void commentReportCheckUsesCommentUserIndex() {
+        reportRepository.existsByUserAndComment(user, comment);
+        reportRepository.findAllByComment(comment);
+
+        assertUsesIndex("report", "idx_report_comment_user");
+    }
+
+    @Test
+    void postsCommentPageUsesPostsIndex() {
+        // PostsService.findCommentPage - 게시글 상세 댓글 커서 조회
+        commentRepository.findCards(CommentSearchSpec.ofPosts(posts.getId(), null).and(CursorSpec.after(0L)), CursorSpec.ID_ASC, 11);
+
+        assertUsesIndex("comment", "idx_comment_posts_id");
+    }
+
+    @Test
+    void userCommentListUsesUserIndex() {
+        // CommentService.indexAfter - 회원이 작성한 댓글 목록
+        commentRepository.findCards(CommentSearchSpec.search(user, null, "", 0).and(CursorSpec.before(Long.MAX_VALUE)), CursorSpec.ID_DESC, 11);
+
+        assertUsesIndex("comment", "idx_comment_user_id");
+    }
+
+    @Test
+    void userPostsListUsesUserIndex() {
+        // PostsService - 회원이 작성한 게시글 목록
+        postsRepository.findCards(PostSearchSpec.search(user, null, "", 0), CursorSpec.ID_DESC, 11);
+
+        assertUsesIndex("posts", "idx_posts_user_id");
+    }
+
+    @Test
+    void subjectTabUsesSubjectIndex() {
+        // PostsService.indexAfter - 주제 탭 목록 (검색어 없음)
+        postsRepository.findCards(PostSearchSpec.search(null, null, "", 3).and(CursorSpec.before(Long.MAX_VALUE)), CursorSpec.ID_DESC, 11);
+
+        assertUsesIndex("posts", "idx_posts_subject_id");
+    }
+
+    @Test
+    void usernameCheckUsesUsernameIndex() {
+        userRepository.existsByUsername("reader");
+
+        assertUsesIndex("users", "idx_users_username");
+    }
+
+    /**
+     * 수집한 SQL 중 테이블을 FROM 절 첫 테이블로 읽는 문장마다 실행 계획 확인
+     * @param table 조회 대상 테이블
+     * @param indexNames 사용해야 하는 인덱스 (여러 개면 그중 하나)
+     */
+    private void assertUsesIndex(String table, String... indexNames) {
+        Pattern from = Pattern.compile("\\bfrom " + table + " ");
+        List<String> lookups = SqlCollector.statements().stream()
+                .filter(sql -> sql.startsWith("select") && from.matcher(sql).find())
+                .toList();
+
+        assertThat(lookups).as(table + " 조회 SQL").isNotEmpty();
+        lookups.forEach(sql -> assertThat(explain(sql)).as(sql).containsAnyOf(indexNames));
+    }
+
+    /**
+     * 바인딩 파라미터가 있는 SQL의 실행 계획 (EXPLAIN은 실행하지 않으므로 값은 계획에 영향 없음)
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("explain " + sql);
+            for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                ps.setNull(i, Types.NULL);
+            }
+            return ps;
+        }, rs -> rs.next() ? rs.getString(1).toLowerCase() : "");
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Posts;
+import com.example.backend.entity.User;
+import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.service.searchSpec.PostSearchSpec;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 본문(@Lob content)이 목록 조회 경로에서 SELECT 되지 않는지 실행된 SQL로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.example.backend.repository.PostsContentLazyLoadingTest$SqlCollector")
+class PostsContentLazyLoadingTest {
+
+    // posts 테이블 별칭(p1_0, p2_0 ...)의 content 컬럼
+    private static final Pattern POSTS_CONTENT = Pattern.compile("\\bp\\d+_0\\.content\\b");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    private Long postsId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("lazy@test.com").username("lazy").password("pw").build();
+        entityManager.persist(user);
+
+        Posts posts = Posts.builder()
+                .subject(PostsSubject.SHARE)
+                .title("본문 지연 로딩")
+                .content("긴 본문 ".repeat(10_000))
+                .user(user)
+                .build();
+        entityManager.persist(posts);
+        postsId = posts.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlCollector.clear();
+    }
+
+    @Test
+    void entityLoadDoesNotSelectContentUntilAccessed() {
+        Posts posts = postsRepository.findById(postsId).orElseThrow();
+
+        assertThat(SqlCollector.statements()).noneMatch(sql -> POSTS_CONTENT.matcher(sql).find());
+
+        // 본문에 접근할 때만 별도 SELECT 실행
+        assertThat(posts.getContent()).startsWith("긴 본문");
+        assertThat(SqlCollector.statements()).anyMatch(sql -> POSTS_CONTENT.matcher(sql).find());
+    }
+
+    @Test
+    void specificationListingDoesNotSelectContent() {
+        postsRepository.findAll(PostSearchSpec.search(null, "", "", 0), PageRequest.of(0, 10))
+                .forEach(Posts::getTitle);
+
+        assertThat(SqlCollector.statements()).isNotEmpty();
+        assertThat(SqlCollector.statements()).noneMatch(sql -> POSTS_CONTENT.matcher(sql).find());
+    }
+
+    @Test
+    void cardListingDoesNotSelectContent() {
+        postsRepository.findCards(PostSearchSpec.search(null, "", "", 0), Sort.by(Sort.Direction.DESC, "id"), 10);
+
+        assertThat(SqlCollector.statements()).isNotEmpty();
+        assertThat(SqlCollector.statements()).noneMatch(sql -> POSTS_CONTENT.matcher(sql).find());
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 수집하는 StatementInspector
+     */
+    public static class SqlCollector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.ChatRoom;
+import com.example.backend.entity.Posts;
+import com.example.backend.entity.User;
+import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.repository.ChatRoomRepository;
+import com.example.backend.repository.PostsRepository;
+import com.example.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 지연 저장의 배치에 저장할 수 없는 행(삭제된 채팅방)이 섞여 있을 때
+ * 나머지 메시지가 한 번씩만 저장되는지 확인 (배치 롤백 후 한 건씩 다시 저장)
+ * 저장 스레드가 직접 커밋하므로 테스트 트랜잭션을 사용하지 않고, 끝난 뒤 직접 정리한다
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatRoomTextWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    private User user;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("writer@test.com").username("writer").password("pw").build());
+        Posts posts = postsRepository.save(Posts.builder().subject(PostsSubject.RECRUIT).title("채팅").content("본문").user(user).build());
+        room = chatRoomRepository.save(ChatRoom.builder().roomName("채팅방").creator(user).posts(posts).invitedUsers(new ArrayList<>()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from chat_room_text");
+        jdbcTemplate.update("delete from chat_room_invited_users");
+        jdbcTemplate.update("delete from chat_room");
+        jdbcTemplate.update("delete from posts");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void failedBatchIsRetriedWithoutDuplicates() throws InterruptedException {
+        ChatRoomTextWriter writer = new ChatRoomTextWriter(jdbcTemplate, transactionManager, 100, 100, 500, true, 5_000, 100);
+        List<Long> savedIds = new CopyOnWriteArrayList<>();
+        Long deletedRoomId = room.getId() + 1_000;
+
+        // 저장 스레드 시작 전에 넣어 세 건이 한 배치로 저장되도록 함
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(writer.enqueue(room.getId(), user.getId(), "첫 메시지", now, savedIds::add)).isTrue();
+        assertThat(writer.enqueue(deletedRoomId, user.getId(), "삭제된 채팅방", now, savedIds::add)).isTrue();
+        assertThat(writer.enqueue(room.getId(), user.getId(), "세 번째 메시지", now, savedIds::add)).isTrue();
+        writer.start();
+        writer.shutdown();
+
+        List<String> texts = jdbcTemplate.queryForList("select text from chat_room_text order by id", String.class);
+        assertThat(texts).containsExactly("첫 메시지", "세 번째 메시지");
+        assertThat(savedIds).hasSize(2).doesNotHaveDuplicates();
+        assertThat(writer.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Posts;
+import com.example.backend.entity.User;
+import com.example.backend.entity.utilities.PostsSubject;
+import com.example.backend.repository.PostsRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.search.SearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 게시글에 좋아요 요청 200개를 동시에 보냈을 때 좋아요 행 수와 like_count가 어긋나지 않는지 확인
+ * 요청마다 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고, 끝난 뒤 직접 정리한다
+ */
+@DataJpaTest
+@Import(PostsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostsLikesConcurrencyTest {
+
+    private static final int THREADS = 200;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ChatRoomService chatRoomService;
+    @MockitoBean
+    private SavedStatusService savedStatusService;
+    @MockitoBean
+    private SearchIndex searchIndex;
+    @MockitoBean
+    private PublicFeedCache publicFeedCache;
+    @MockitoBean
+    private PostsViewCountBuffer viewCountBuffer;
+    @MockitoBean
+    private TrendingPostsRanking trendingPostsRanking;
+    @MockitoBean
+    private ListCountCache listCountCache;
+    @MockitoBean
+    private BulkDeleteService bulkDeleteService;
+
+    private List<User> users;
+    private Long postsId;
+
+    @BeforeEach
+    void setUp() {
+        users = userRepository.saveAll(IntStream.range(0, THREADS)
+                .mapToObj(i -> User.builder().email("likes" + i + "@test.com").username("likes" + i).password("pw").build())
+                .toList());
+
+        postsId = postsRepository.save(Posts.builder()
+                .subject(PostsSubject.SHARE)
+                .title("동시 좋아요")
+                .content("본문")
+                .user(users.get(0))
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from posts_likes");
+        jdbcTemplate.update("delete from posts");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void differentUsersLikingConcurrentlyAreAllCounted() throws Exception {
+        runConcurrently(i -> users.get(i));
+
+        assertThat(likeRows()).isEqualTo(THREADS);
+        assertThat(likeCount()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void sameUserTogglingConcurrentlyLeavesAtMostOneRow() throws Exception {
+        User user = users.get(0);
+        runConcurrently(i -> user);
+
+        // 토글 순서는 보장되지 않지만 중복 행이 생기거나 카운터가 행 수와 어긋나면 안 된다
+        assertThat(likeRows()).isBetween(0, 1);
+        assertThat(likeCount()).isEqualTo(likeRows());
+    }
+
+    private void runConcurrently(IntFunction<User> userOf) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                User user = userOf.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return postsService.handleLikes(postsId, user);
+                }));
+            }
+            start.countDown();
+
+            // 요청 중 예외가 있었다면 여기서 테스트 실패
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("select count(*) from posts_likes where post_id = ?", Integer.class, postsId);
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("select like_count from posts where id = ?", Integer.class, postsId);
+    }
+}
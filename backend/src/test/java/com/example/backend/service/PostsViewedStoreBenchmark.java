@@ -0,0 +1,167 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.User;
+import com.example.backend.repository.PostsViewedBitmapRepository;
+import com.example.backend.repository.PostsViewedRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 10만 개를 읽은 회원 기준으로 조회 여부 확인 비용 비교
+ * - 이전 방식: posts_viewed 행 (카드마다 exists / 페이지당 IN 쿼리)
+ * - 비트맵 방식: PostsViewedStore
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다
+ */
+@Tag("benchmark")
+@DataJpaTest
+class PostsViewedStoreBenchmark {
+
+    private static final int VIEWED_POSTS = 100_000;
+    private static final int POSTS_RANGE = 150_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 200;
+    // 이전 방식(PostsViewedRepository.existsByUserAndPosts)과 같은 조회
+    private static final String EXISTS_SQL = "select exists (select 1 from posts_viewed where user_id = ? and posts_id = ?)";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostsViewedRepository postsViewedRepository;
+
+    @Autowired
+    private PostsViewedBitmapRepository postsViewedBitmapRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Random random = new Random(42);
+
+    private User user;
+    private List<List<Long>> pages;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("bench@test.com").username("bench").password("pw").build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        // 게시글 행 없이 조회 정보만 넣기 위해 외래 키 검사 해제 (H2)
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= POSTS_RANGE; id++) ids.add(id);
+        Collections.shuffle(ids, random);
+        List<Long> viewed = ids.subList(0, VIEWED_POSTS);
+
+        List<Object[]> rows = viewed.stream().map(postsId -> new Object[]{user.getId(), postsId}).toList();
+        jdbcTemplate.batchUpdate("insert into posts_viewed (user_id, posts_id) values (?, ?)", rows);
+
+        PostsViewedStore store = new PostsViewedStore(postsViewedBitmapRepository, jdbcTemplate, transactionManager);
+        store.markViewedAll(user.getId(), viewed);
+        store.flush();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // 목록 페이지마다 임의의 게시글 ID 20개
+        pages = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            List<Long> page = new ArrayList<>();
+            for (int j = 0; j < PAGE_SIZE; j++) page.add(1L + random.nextInt(POSTS_RANGE));
+            pages.add(page);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    void compareViewedLookup() {
+        // 결과가 같은지 먼저 확인
+        PostsViewedStore store = new PostsViewedStore(postsViewedBitmapRepository, jdbcTemplate, transactionManager);
+        for (List<Long> page : pages) {
+            assertThat(store.viewedIds(user.getId(), page))
+                    .isEqualTo(new HashSet<>(viewedIdsIn(page)));
+        }
+
+        // 카드마다 exists 쿼리 (기존 목록 조회 방식)
+        long existsNanos = measure(() -> {
+            for (List<Long> page : pages) {
+                for (Long postsId : page) {
+                    jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, user.getId(), postsId);
+                }
+            }
+            return null;
+        });
+
+        // 페이지당 IN 쿼리 한 번
+        long inQueryNanos = measure(() -> {
+            pages.forEach(this::viewedIdsIn);
+            return null;
+        });
+
+        // 비트맵 - 첫 조회는 DB에서 비트맵 한 행을 읽어 복원
+        entityManager.clear();
+        PostsViewedStore coldStore = new PostsViewedStore(postsViewedBitmapRepository, jdbcTemplate, transactionManager);
+        long coldLoadNanos = measure(() -> coldStore.viewedIds(user.getId(), pages.get(0)));
+
+        // 비트맵 - 메모리에 올라온 뒤
+        long bitmapNanos = measure(() -> {
+            pages.forEach(page -> coldStore.viewedIds(user.getId(), page));
+            return null;
+        });
+
+        int blobBytes = postsViewedBitmapRepository.findById(user.getId()).orElseThrow().getBitmap().length;
+
+        System.out.printf("""
+                        [조회 여부 확인 - 게시글 %,d개를 읽은 회원, 페이지 %d개 x %d건]
+                        posts_viewed exists (카드마다) : 페이지당 %,.1f us
+                        posts_viewed IN (페이지당 1회) : 페이지당 %,.1f us
+                        비트맵 최초 로딩               : %,.1f us
+                        비트맵 (메모리)                : 페이지당 %,.3f us
+                        저장 크기 : posts_viewed %,d행 / 비트맵 %,d bytes
+                        %n""",
+                VIEWED_POSTS, PAGES, PAGE_SIZE,
+                existsNanos / 1_000.0 / PAGES,
+                inQueryNanos / 1_000.0 / PAGES,
+                coldLoadNanos / 1_000.0,
+                bitmapNanos / 1_000.0 / PAGES,
+                postsViewedRepository.count(), blobBytes);
+
+        assertThat(bitmapNanos).isLessThan(inQueryNanos);
+    }
+
+    private List<Long> viewedIdsIn(List<Long> postsIds) {
+        String placeholders = String.join(",", Collections.nCopies(postsIds.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(user.getId());
+        args.addAll(postsIds);
+        return jdbcTemplate.queryForList("select posts_id from posts_viewed where user_id = ? and posts_id in (" + placeholders + ")",
+                Long.class, args.toArray());
+    }
+
+    private long measure(Supplier<?> task) {
+        long start = System.nanoTime();
+        task.get();
+        return System.nanoTime() - start;
+    }
+}
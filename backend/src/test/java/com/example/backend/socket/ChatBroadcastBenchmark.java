@@ -0,0 +1,200 @@
+package com.example.backend.socket;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 한 건을 채팅방(10명)에 보내는 비용을 전체 접속 세션 수별로 비교
+ * - 이전 방식: 전체 세션 Map을 순회하며 채팅방 ID 비교, 수신자마다 메시지 생성
+ * - ChatSessionRegistry: 채팅방의 세션만 조회, 메시지는 한 번만 생성
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다
+ */
+@Tag("benchmark")
+class ChatBroadcastBenchmark {
+
+    private static final int USERS_PER_ROOM = 10;
+    private static final int[] ROOM_COUNTS = {10, 100, 1_000};
+    private static final int MESSAGES = 20_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void broadcastCostIsFlatInTotalSessions() {
+        Map<Integer, Double> registryNanos = new LinkedHashMap<>();
+        Map<Integer, Double> legacyNanos = new LinkedHashMap<>();
+
+        for (int rooms : ROOM_COUNTS) {
+            ChatSessionRegistry registry = new ChatSessionRegistry(5_000, 64 * 1024, ChatSessionRegistry.OverflowPolicy.CLOSE);
+            Map<WebSocketSession, Long> sessionRoomMap = new HashMap<>();
+            Map<WebSocketSession, String> sessionUserMap = new HashMap<>();
+
+            for (long roomId = 1; roomId <= rooms; roomId++) {
+                for (int user = 0; user < USERS_PER_ROOM; user++) {
+                    StubSession session = new StubSession(roomId + "-" + user);
+                    registry.register(session, roomId, (long) user, "user" + user);
+                    sessionRoomMap.put(session, roomId);
+                    sessionUserMap.put(session, "user" + user);
+                }
+            }
+
+            long[] roomIds = random.longs(MESSAGES, 1, rooms + 1).toArray();
+            TextMessage inbound = new TextMessage("안녕하세요");
+
+            // 예열 후 측정
+            runRegistry(registry, roomIds, inbound);
+            runLegacy(sessionRoomMap, sessionUserMap, roomIds, inbound);
+
+            registryNanos.put(rooms, (double) measure(() -> runRegistry(registry, roomIds, inbound)) / MESSAGES);
+            legacyNanos.put(rooms, (double) measure(() -> runLegacy(sessionRoomMap, sessionUserMap, roomIds, inbound)) / MESSAGES);
+        }
+
+        StringBuilder report = new StringBuilder("[채팅 메시지 전송 - 채팅방당 " + USERS_PER_ROOM + "명, 메시지당 평균]\n");
+        for (int rooms : ROOM_COUNTS) {
+            report.append(String.format("채팅방 %,5d개 (세션 %,6d개) : 이전 방식 %,10.1f ns / ChatSessionRegistry %,8.1f ns%n",
+                    rooms, rooms * USERS_PER_ROOM, legacyNanos.get(rooms), registryNanos.get(rooms)));
+        }
+        System.out.println(report);
+
+        int smallest = ROOM_COUNTS[0];
+        int largest = ROOM_COUNTS[ROOM_COUNTS.length - 1];
+        // 전체 세션이 100배가 되어도 채팅방 전송 비용은 크게 변하지 않아야 한다
+        assertThat(registryNanos.get(largest)).isLessThan(registryNanos.get(smallest) * 3);
+        assertThat(registryNanos.get(largest)).isLessThan(legacyNanos.get(largest));
+    }
+
+    private void runRegistry(ChatSessionRegistry registry, long[] roomIds, TextMessage inbound) {
+        for (long roomId : roomIds) {
+            registry.broadcast(roomId, new TextMessage("user0: " + inbound.getPayload()));
+        }
+    }
+
+    // 이전 RoomChatHandler.handleTextMessage의 전송 부분 (DB 저장 제외)
+    private void runLegacy(Map<WebSocketSession, Long> sessionRoomMap, Map<WebSocketSession, String> sessionUserMap,
+                           long[] roomIds, TextMessage inbound) {
+        for (long roomId : roomIds) {
+            for (WebSocketSession s : sessionRoomMap.keySet()) {
+                if (Long.valueOf(roomId).equals(sessionRoomMap.get(s)) && s.isOpen()) {
+                    try {
+                        s.sendMessage(new TextMessage(sessionUserMap.get(s) + ": " + inbound.getPayload()));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 전송 횟수만 세는 세션
+     */
+    private static class StubSession implements WebSocketSession {
+
+        private final String id;
+        private long sent;
+
+        StubSession(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            sent += message.getPayloadLength();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
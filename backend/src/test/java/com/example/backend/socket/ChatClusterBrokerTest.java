@@ -0,0 +1,212 @@
+package com.example.backend.socket;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 채팅 다중 서버 모드 - 서버 두 대(ChatSessionRegistry + ChatClusterBroker)가 내장 Redis 하나를 공유할 때
+ * 다른 서버에 접속한 세션에도 메시지가 전달되고 접속자가 공유되는지 확인
+ */
+class ChatClusterBrokerTest {
+
+    private static final long PRESENCE_TTL_MS = 1_000;
+    private static final long WAIT_MS = 2_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.broker.stop();
+        nodeB.broker.stop();
+    }
+
+    @Test
+    void messageIsDeliveredToSessionsOnEveryNode() throws Exception {
+        WebSocketSession alice = session("alice");
+        WebSocketSession bob = session("bob");
+        WebSocketSession carol = session("carol");
+        nodeA.connect(alice, 1L, "alice");
+        nodeB.connect(bob, 1L, "bob");
+        nodeB.connect(carol, 2L, "carol");
+        awaitSubscribers(1L, 2);
+
+        TextMessage message = new TextMessage("alice: 안녕하세요");
+        nodeA.broker.publish(1L, message);
+
+        // 보낸 서버와 다른 서버의 세션 모두 받고, 다른 채팅방 세션은 받지 않는다
+        verify(alice, timeout(WAIT_MS)).sendMessage(message);
+        verify(bob, timeout(WAIT_MS)).sendMessage(message);
+        verify(carol, after(300).never()).sendMessage(any());
+    }
+
+    @Test
+    void messagesAreDeliveredInPublishOrder() throws Exception {
+        WebSocketSession bob = session("bob");
+        nodeB.connect(bob, 1L, "bob");
+        awaitSubscribers(1L, 1);
+
+        List<TextMessage> messages = IntStream.range(0, 100).mapToObj(i -> new TextMessage("alice: " + i)).toList();
+        messages.forEach(message -> nodeA.broker.publish(1L, message));
+
+        // 다른 서버에서도 발행한 순서대로 전송
+        verify(bob, timeout(WAIT_MS).times(messages.size())).sendMessage(any());
+        InOrder inOrder = inOrder(bob);
+        for (TextMessage message : messages) {
+            inOrder.verify(bob).sendMessage(message);
+        }
+    }
+
+    @Test
+    void nodeUnsubscribesWhenLastLocalSessionLeaves() throws Exception {
+        WebSocketSession alice = session("alice");
+        WebSocketSession bob = session("bob");
+        nodeA.connect(alice, 1L, "alice");
+        nodeB.connect(bob, 1L, "bob");
+        awaitSubscribers(1L, 2);
+
+        nodeB.disconnect(bob);
+        awaitSubscribers(1L, 1);
+        nodeA.broker.publish(1L, new TextMessage("alice: 안녕하세요"));
+
+        verify(alice, timeout(WAIT_MS)).sendMessage(any());
+        verify(bob, after(300).never()).sendMessage(any());
+    }
+
+    @Test
+    void presenceIsSharedAcrossNodes() {
+        WebSocketSession alice = session("alice");
+        WebSocketSession aliceSecondTab = session("alice-2");
+        nodeA.connect(alice, 1L, "alice");
+        nodeA.connect(aliceSecondTab, 1L, "alice");
+        nodeB.connect(session("bob"), 1L, "bob");
+
+        assertThat(nodeB.broker.connectedUserCount(1L)).isEqualTo(2);
+        assertThat(nodeB.broker.isConnected(1L, "alice")).isTrue();
+
+        // 같은 회원의 다른 세션이 남아 있으면 접속 유지
+        nodeA.disconnect(alice);
+        assertThat(nodeB.broker.isConnected(1L, "alice")).isTrue();
+
+        nodeA.disconnect(aliceSecondTab);
+        assertThat(nodeB.broker.isConnected(1L, "alice")).isFalse();
+        assertThat(nodeB.broker.connectedUserCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void presenceExpiresWhenNodeStopsHeartbeating() throws InterruptedException {
+        nodeA.connect(session("alice"), 1L, "alice");
+        nodeB.connect(session("bob"), 1L, "bob");
+
+        // nodeA가 비정상 종료되어 갱신하지 못한 상태
+        Thread.sleep(PRESENCE_TTL_MS + 300);
+        nodeB.broker.heartbeat();
+
+        assertThat(nodeB.broker.isConnected(1L, "alice")).isFalse();
+        assertThat(nodeB.broker.isConnected(1L, "bob")).isTrue();
+        assertThat(nodeB.broker.connectedUserCount(1L)).isEqualTo(1);
+    }
+
+    private WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    /**
+     * 채널 구독은 구독 연결에서 비동기로 반영되므로 구독 수가 맞을 때까지 기다림
+     */
+    private void awaitSubscribers(Long roomId, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (subscribers(roomId) != expected) {
+            assertThat(System.currentTimeMillis()).as("채널 구독 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private long subscribers(Long roomId) {
+        List<?> reply = (List<?>) redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("PUBSUB",
+                "NUMSUB".getBytes(StandardCharsets.UTF_8), ("chat:room:" + roomId).getBytes(StandardCharsets.UTF_8)));
+        return (Long) reply.get(1);
+    }
+
+    /**
+     * 서버 한 대 (세션 목록 + Redis 중계)
+     */
+    private static class Node {
+
+        private final ChatSessionRegistry registry = new ChatSessionRegistry(5_000, 64 * 1024, ChatSessionRegistry.OverflowPolicy.CLOSE);
+        private final ChatClusterBroker broker = new ChatClusterBroker(registry, redisTemplate, true, PRESENCE_TTL_MS);
+
+        Node() {
+            broker.start();
+        }
+
+        void connect(WebSocketSession session, Long roomId, String username) {
+            registry.register(session, roomId, 1L, username);
+            broker.joined(roomId, username);
+        }
+
+        void disconnect(WebSocketSession session) {
+            ChatSessionRegistry.SessionInfo info = registry.unregister(session);
+            broker.left(info.roomId(), info.username());
+        }
+    }
+}
@@ -121,6 +121,8 @@ const ChatRoom = () => {
   const [messages, setMessages] = useState([]);
   const [users, setUsers] = useState([]);
   const [input, setInput] = useState("");
+  // 이전 메시지 커서 (받은 메시지 중 가장 오래된 ID)가 있으면 더보기 가능
+  const [hasMore, setHasMore] = useState(false);
 
   useEffect(() => {
 
@@ -150,6 +152,7 @@ const ChatRoom = () => {
           ...message,
           isCurrentUser: message.username === user.username
       })))
+        setHasMore(messageData.length > 0 && messageData[0].id != null)
       } catch (error) {
         console.log('error', error)
         console.log('error.response.data.message', error.response?.data?.message || '이전 대화를 불러오는 도중 오류가 발생했습니다.');
@@ -183,6 +186,26 @@ const ChatRoom = () => {
     };
   }, [roomId, user, navigate]);
 
+  // 가장 오래된 메시지 ID 이전의 메시지를 앞에 추가
+  const fetchOlderMessages = async () => {
+    const before = messages[0]?.id;
+    if (before == null) return;
+    try {
+      const response = await apiClient.get(`/chatroom/text/${roomId}`, { params: { before } })
+      const messageData = response.data.result
+      setMessages((prev) => [
+        ...messageData.map(message => ({
+          ...message,
+          isCurrentUser: message.username === user.username
+        })),
+        ...prev,
+      ])
+      setHasMore(messageData.length > 0)
+    } catch (error) {
+      console.log('error', error)
+    }
+  };
+
   const sendMessage = (e) => {
     e.preventDefault();
     if (!ws.current || ws.current.readyState !== WebSocket.OPEN) return;
@@ -202,6 +225,15 @@ const ChatRoom = () => {
             채팅방 '{roomName}'
           </Typography>
           <MessageListArea>
+            {hasMore && (
+              <Button
+                size="small"
+                onClick={fetchOlderMessages}
+                sx={{ display: "block", mx: "auto", mb: 1, color: TEXT_COLOR }}
+              >
+                이전 메시지 더보기
+              </Button>
+            )}
             {messages.map((msg, index) => (
               <MessageBubble key={index} isCurrentUser={msg.isCurrentUser}>
                 <Typography
@@ -192,6 +192,7 @@ const PostsDetail = () => {
   const [savedInPostLikes, setSavedInPostLikes] = useState(false);
   const [recruitmentResult, setRecruitmentResult] = useState(null);
   const [initialComments, setInitialComments] = useState([]);
+  const [initialCommentsCursor, setInitialCommentsCursor] = useState(null);
 
   const setPostAdoptedId = (commentId) => {
     setPost((prevPost) => ({
@@ -224,6 +225,7 @@ const PostsDetail = () => {
               : "마감"
           );
           setInitialComments(postData.comments || []);
+          setInitialCommentsCursor(postData.commentsHasNext ? postData.commentsNextCursor : null);
         } else {
           setError("게시글 데이터를 찾을 수 없습니다.");
           setPost(null);
@@ -519,6 +521,8 @@ const PostsDetail = () => {
             adoptedCommentId={post.adoptedCommentId}
             setPostAdoptedId={setPostAdoptedId}
             initialComments={initialComments}
+            initialCursor={initialCommentsCursor}
+            commentNumber={post.commentNumber}
             recruitmentResultProp={recruitmentResult}
           />
         </DetailCard>
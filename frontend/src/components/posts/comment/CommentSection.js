@@ -58,7 +58,9 @@ const ApplicationCompleteMessage = styled(ApplicationWrapper)(({ theme, statusTy
  * @param {string} props.postAuthorUsername - 현재 게시글 작성자의 사용자 이름
  * @param {number | null} props.adoptedCommentId - 채택된 댓글의 ID
  * @param {function} props.setPostAdoptedId - 부모 상태(post)의 adoptedCommentId를 업데이트하는 함수
- * @param {Array<object>} props.initialComments - API에서 받은 초기 댓글 목록
+ * @param {Array<object>} props.initialComments - API에서 받은 초기 댓글 목록 (첫 페이지)
+ * @param {string | null} props.initialCursor - 다음 댓글 페이지 커서 (없으면 null)
+ * @param {number} props.commentNumber - 전체 댓글 수
  * @param {string | null} props.recruitmentResultProp - 현재 사용자의 모임 신청 결과 (null/마감/신청/승인/거절)
  */
 const CommentsSection = ({
@@ -68,6 +70,8 @@ const CommentsSection = ({
     adoptedCommentId,
     setPostAdoptedId,
     initialComments,
+    initialCursor,
+    commentNumber,
     recruitmentResultProp
 }) => {
 
@@ -75,6 +79,9 @@ const CommentsSection = ({
     const commentsListRef = useRef(null);
 
     const [comments, setComments] = useState(initialComments);
+    const [nextCursor, setNextCursor] = useState(initialCursor);
+    const [commentTotal, setCommentTotal] = useState(commentNumber);
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
     const [newCommentText, setNewCommentText] = useState('');
 
     const [editingCommentId, setEditingCommentId] = useState(null);
@@ -86,7 +93,33 @@ const CommentsSection = ({
 
     useEffect(() => {
         setComments(initialComments);
-    }, [initialComments]);
+        setNextCursor(initialCursor);
+    }, [initialComments, initialCursor]);
+
+    useEffect(() => {
+        setCommentTotal(commentNumber);
+    }, [commentNumber]);
+
+    // 다음 댓글 페이지 조회 (이미 받은 댓글은 제외)
+    const handleLoadMoreComments = async () => {
+        if (!nextCursor || isLoadingMore) return;
+
+        setIsLoadingMore(true);
+        try {
+            const response = await apiClient.get(`/posts/${postId}/comments`, { params: { after: nextCursor } });
+            const { content, hasNext, nextCursor: cursor } = response.data.result;
+
+            setComments(prev => {
+                const loadedIds = new Set(prev.map(comment => comment.id));
+                return [...prev, ...content.filter(comment => !loadedIds.has(comment.id))];
+            });
+            setNextCursor(hasNext ? cursor : null);
+        } catch (err) {
+            console.error("댓글 조회 오류:", err.response?.data?.message || err.message);
+        } finally {
+            setIsLoadingMore(false);
+        }
+    };
 
     useEffect(() => {
         setRecruitmentResult(recruitmentResultProp);
@@ -210,6 +243,7 @@ const CommentsSection = ({
                     savedInLikes: false
                 }
                 setComments(prev => [newComment, ...prev])
+                setCommentTotal(prev => (prev ?? 0) + 1)
                 setNewCommentText('');
             }
         } catch (err) {
@@ -224,6 +258,7 @@ const CommentsSection = ({
                 const postResponse = await apiClient.delete(`/comment/${commentId}`)
                 if (postResponse.data.result.id) {
                     setComments(prevComments => prevComments.filter(comment => comment.id !== commentId))
+                    setCommentTotal(prev => Math.max((prev ?? 1) - 1, 0))
                 } else {
                     alert(`${commentId}번 댓글을 삭제하는데 실패했습니다.`)
                 }
@@ -453,7 +488,7 @@ const CommentsSection = ({
                 },
             })}>
                 <Typography variant="h6" sx={{ fontWeight: 700, color: TEXT_COLOR, mb: 2 }}>
-                    댓글 ({comments.length})
+                    댓글 ({commentTotal ?? comments.length})
                 </Typography>
             </Box>
 
@@ -758,6 +793,19 @@ const CommentsSection = ({
                         )
                     })}
             </List>
+
+            {nextCursor && (
+                <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+                    <Button
+                        variant="outlined"
+                        onClick={handleLoadMoreComments}
+                        disabled={isLoadingMore}
+                        sx={{ color: TEXT_COLOR, borderColor: LIGHT_TEXT_COLOR }}
+                    >
+                        {isLoadingMore ? '불러오는 중...' : '댓글 더보기'}
+                    </Button>
+                </Box>
+            )}
         </>
     );
 };